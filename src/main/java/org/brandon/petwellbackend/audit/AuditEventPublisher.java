@@ -0,0 +1,169 @@
+package org.brandon.petwellbackend.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.brandon.petwellbackend.domain.AuditEvent;
+import org.brandon.petwellbackend.enums.AuditEventType;
+import org.brandon.petwellbackend.repository.AuditEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records audit events without making the caller wait for the database. Events go into a bounded
+ * queue that a single writer thread drains into batched inserts: whatever accumulated while the
+ * previous batch was written goes out in the next one, up to the configured batch size. Inside a
+ * transaction an event is only queued once the transaction commits. When the queue is full the
+ * event is dropped and counted.
+ */
+@Component
+public class AuditEventPublisher implements SmartLifecycle {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuditEventPublisher.class);
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+
+    private final AuditEventRepository auditEventRepository;
+    private final AuditorAware<String> auditorAware;
+    private final boolean enabled;
+    private final int batchSize;
+    private final BlockingQueue<AuditEvent> queue;
+    private final Counter dropped;
+    private final Counter failed;
+    private final AtomicInteger droppedSinceLastWrite = new AtomicInteger();
+
+    private volatile Thread writer;
+    private volatile boolean running;
+
+    public AuditEventPublisher(AuditEventRepository auditEventRepository, AuditorAware<String> auditorAware,
+                               AuditLogConfig auditLogConfig, MeterRegistry meterRegistry) {
+        this.auditEventRepository = auditEventRepository;
+        this.auditorAware = auditorAware;
+        this.enabled = auditLogConfig.isEnabled();
+        this.batchSize = auditLogConfig.getBatchSize();
+        this.queue = new ArrayBlockingQueue<>(auditLogConfig.getQueueCapacity());
+        this.dropped = Counter.builder("petwell.audit.events.dropped")
+                .description("Audit events dropped because the queue was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("petwell.audit.events.failed")
+                .description("Audit events that could not be written")
+                .register(meterRegistry);
+        Gauge.builder("petwell.audit.queue.depth", queue, BlockingQueue::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records an event performed by the currently authenticated user.
+     */
+    public void publish(AuditEventType type, String subject, String detail) {
+        publish(type, auditorAware.getCurrentAuditor().orElse(null), subject, detail);
+    }
+
+    public void publish(AuditEventType type, String actor, String subject, String detail) {
+        if (!enabled) {
+            return;
+        }
+        AuditEvent event = new AuditEvent(null, Instant.now(), type, actor, subject, detail);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+        } else {
+            enqueue(event);
+        }
+    }
+
+    private void enqueue(AuditEvent event) {
+        if (!queue.offer(event)) {
+            dropped.increment();
+            if (droppedSinceLastWrite.getAndIncrement() == 0) {
+                LOGGER.warn("Audit queue is full, dropping events until the writer catches up");
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("audit-writer").daemon().start(this::drainQueue);
+    }
+
+    /**
+     * Stops taking new batches and writes whatever is still queued before returning.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = writer;
+        if (current != null) {
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts before and stops after the web server, so events of requests still in flight during
+     * shutdown are written.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainQueue() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AuditEvent first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            write(batch);
+        }
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+        try {
+            auditEventRepository.insertAll(batch);
+            droppedSinceLastWrite.set(0);
+        } catch (DataAccessException e) {
+            failed.increment(batch.size());
+            LOGGER.error("Could not write {} audit event(s)", batch.size(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.brandon.petwellbackend.audit;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Setter
+@Getter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "audit-log")
+public class AuditLogConfig {
+    private boolean enabled = true;
+
+    /**
+     * Events waiting to be written. Once full, new events are dropped and counted rather than
+     * holding up the request that produced them.
+     */
+    @Min(1)
+    private int queueCapacity = 10_000;
+
+    @Min(1)
+    private int batchSize = 500;
+
+    /**
+     * Monthly partitions created ahead of the current month.
+     */
+    @Min(1)
+    private int partitionsAhead = 2;
+}
@@ -0,0 +1,64 @@
+package org.brandon.petwellbackend.audit;
+
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.repository.AuditEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps monthly partitions of {@code audit_events} created ahead of time, so that events land in
+ * their own month rather than in the default partition. Old partitions can be detached or dropped
+ * as a whole once they are past retention. The first run happens on startup, before
+ * {@link AuditEventPublisher} starts writing.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditPartitionMaintainer implements SmartLifecycle {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuditPartitionMaintainer.class);
+
+    private final AuditEventRepository auditEventRepository;
+    private final AuditLogConfig auditLogConfig;
+
+    private volatile boolean running;
+
+    @Scheduled(initialDelay = 12, fixedDelay = 12, timeUnit = TimeUnit.HOURS)
+    public void createUpcomingPartitions() {
+        YearMonth month = YearMonth.now(ZoneOffset.UTC);
+        for (int i = 0; i <= auditLogConfig.getPartitionsAhead(); i++) {
+            try {
+                auditEventRepository.createPartition(month.plusMonths(i));
+            } catch (DataAccessException e) {
+                LOGGER.error("Could not create audit partition for {}", month.plusMonths(i), e);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        createUpcomingPartitions();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 8192;
+    }
+}
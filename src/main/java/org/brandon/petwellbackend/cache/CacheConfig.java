@@ -1,5 +1,6 @@
 package org.brandon.petwellbackend.cache;
 
+import org.brandon.petwellbackend.payload.UserSearchPage;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -8,8 +9,18 @@ import java.util.concurrent.TimeUnit;
 @Configuration
 public class CacheConfig {
 
-    @Bean(name = "tokenCache")
-    public CacheStore<String, String> tokenCache() {
-        return new CacheStore<>(900 * 4, TimeUnit.SECONDS);
+    /**
+     * Token generation per email. Revoking sessions on this instance evicts the entry right away;
+     * other instances evict it when {@link CacheInvalidationBus} relays the change, or once it expires
+     * should the notification be lost.
+     */
+    @Bean(name = "tokenVersionCache")
+    public CacheStore<String, Integer> tokenVersionCache() {
+        return new CacheStore<>(60, TimeUnit.SECONDS, 100_000);
+    }
+
+    @Bean(name = "userSearchCache")
+    public CacheStore<String, UserSearchPage> userSearchCache() {
+        return new CacheStore<>(30, TimeUnit.SECONDS, 10_000);
     }
 }
@@ -0,0 +1,264 @@
+package org.brandon.petwellbackend.cache;
+
+import com.google.common.hash.HashCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.brandon.petwellbackend.payload.UserSearchPage;
+import org.brandon.petwellbackend.security.RevocationJournal;
+import org.brandon.petwellbackend.security.VerifiedTokenCache;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the in-process user caches of all instances consistent without a separate broker. Writes
+ * send a Postgres {@code NOTIFY} on the transaction that changed the user, so peers only hear about
+ * committed changes. Each instance holds one dedicated connection outside the pool that
+ * {@code LISTEN}s on the channel, collects a burst of notifications for
+ * {@link CacheInvalidationConfig#getCoalesceWindow() a short window} and evicts once per burst.
+ * Notifications sent by this instance are skipped, since the writer already evicted its own caches.
+ * Anything sent while the listener was disconnected is lost, so every (re)connect clears the caches.
+ * <p>
+ * Revoked access tokens travel the same way and are added to every peer's {@link RevocationJournal}.
+ * A revocation missed while disconnected cannot be recovered by clearing a cache, so a peer keeps
+ * accepting such a token until it expires.
+ */
+@Component
+public class CacheInvalidationBus implements SmartLifecycle {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheInvalidationBus.class);
+    private static final int POLL_TIMEOUT_MILLIS = 500;
+    private static final String USER = "U";
+    private static final String SEARCH = "S";
+    private static final String REVOCATION = "R";
+    private static final ResultSetExtractor<Void> IGNORE_RESULT = _ -> null;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcConnectionDetails jdbcConnectionDetails;
+    private final CacheInvalidationConfig cacheInvalidationConfig;
+    private final CacheStore<String, Integer> tokenVersionCache;
+    private final CacheStore<String, UserSearchPage> userSearchCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RevocationJournal revocationJournal;
+    private final Counter received;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile Thread listener;
+    private volatile boolean running;
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate, JdbcConnectionDetails jdbcConnectionDetails,
+                                CacheInvalidationConfig cacheInvalidationConfig,
+                                CacheStore<String, Integer> tokenVersionCache,
+                                CacheStore<String, UserSearchPage> userSearchCache,
+                                VerifiedTokenCache verifiedTokenCache, RevocationJournal revocationJournal,
+                                MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcConnectionDetails = jdbcConnectionDetails;
+        this.cacheInvalidationConfig = cacheInvalidationConfig;
+        this.tokenVersionCache = tokenVersionCache;
+        this.userSearchCache = userSearchCache;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revocationJournal = revocationJournal;
+        this.received = Counter.builder("petwell.cache.invalidations.received")
+                .description("Cache invalidations received from other instances")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tells the other instances to drop everything they cache about the user. Sent on the current
+     * transaction, if any, and delivered when it commits.
+     */
+    public void publishUserChanged(String email) {
+        notifyPeers(USER, email);
+    }
+
+    /**
+     * Tells the other instances to drop their cached search pages.
+     */
+    public void publishSearchChanged() {
+        notifyPeers(SEARCH, "");
+    }
+
+    /**
+     * Tells the other instances that the user's access token with the given journal digest is revoked
+     * until {@code expiresAt}, in epoch seconds.
+     */
+    public void publishTokenRevoked(String email, HashCode tokenDigest, long expiresAt) {
+        notifyPeers(REVOCATION, tokenDigest.toString() + ':' + expiresAt + ':' + email);
+    }
+
+    private void notifyPeers(String kind, String key) {
+        if (!cacheInvalidationConfig.isEnabled()) {
+            return;
+        }
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", IGNORE_RESULT,
+                cacheInvalidationConfig.getChannel(), nodeId + ':' + kind + ':' + key);
+    }
+
+    @Override
+    public void start() {
+        if (!cacheInvalidationConfig.isEnabled()) {
+            return;
+        }
+        running = true;
+        listener = Thread.ofPlatform().name("cache-invalidation-listener").daemon().start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = listener;
+        if (current != null) {
+            current.interrupt();
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = openListenConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + cacheInvalidationConfig.getChannel());
+                }
+                LOGGER.info("Listening for cache invalidations on {}", cacheInvalidationConfig.getChannel());
+                evictAll();
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null && notifications.length > 0) {
+                        evict(collectBurst(pgConnection, notifications));
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                LOGGER.warn("Cache invalidation listener lost its connection, reconnecting in {}",
+                        cacheInvalidationConfig.getReconnectDelay(), e);
+                try {
+                    Thread.sleep(cacheInvalidationConfig.getReconnectDelay());
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private Connection openListenConnection() throws SQLException {
+        Properties properties = new Properties();
+        if (jdbcConnectionDetails.getUsername() != null) {
+            properties.setProperty("user", jdbcConnectionDetails.getUsername());
+        }
+        if (jdbcConnectionDetails.getPassword() != null) {
+            properties.setProperty("password", jdbcConnectionDetails.getPassword());
+        }
+        properties.setProperty("ApplicationName", "petwell-cache-invalidation");
+        properties.setProperty("tcpKeepAlive", "true");
+        return DriverManager.getConnection(jdbcConnectionDetails.getJdbcUrl(), properties);
+    }
+
+    private Burst collectBurst(PGConnection pgConnection, PGNotification[] first) throws SQLException {
+        Burst burst = new Burst();
+        burst.add(first);
+        long deadline = System.nanoTime() + cacheInvalidationConfig.getCoalesceWindow().toNanos();
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            int timeoutMillis = (int) Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining));
+            burst.add(pgConnection.getNotifications(timeoutMillis));
+        }
+        return burst;
+    }
+
+    private void evict(Burst burst) {
+        if (!burst.revocations.isEmpty()) {
+            received.increment(burst.revocations.size());
+            burst.revocations.forEach(revocationJournal::revoke);
+            verifiedTokenCache.evictUsers(burst.revokedUsers);
+        }
+        if (burst.count == 0) {
+            return;
+        }
+        received.increment(burst.count);
+        if (burst.emails.size() > cacheInvalidationConfig.getMaxKeysPerBatch()) {
+            LOGGER.debug("Clearing user caches after {} invalidations", burst.emails.size());
+            tokenVersionCache.evictAll();
+            verifiedTokenCache.evictAll();
+        } else if (!burst.emails.isEmpty()) {
+            burst.emails.forEach(tokenVersionCache::evict);
+            verifiedTokenCache.evictUsers(burst.emails);
+        }
+        userSearchCache.evictAll();
+    }
+
+    private void evictAll() {
+        tokenVersionCache.evictAll();
+        verifiedTokenCache.evictAll();
+        userSearchCache.evictAll();
+    }
+
+    private final class Burst {
+        private final Set<String> emails = new HashSet<>();
+        private final Map<HashCode, Long> revocations = new HashMap<>();
+        private final Set<String> revokedUsers = new HashSet<>();
+        private int count;
+
+        private void add(PGNotification[] notifications) {
+            if (notifications == null) {
+                return;
+            }
+            for (PGNotification notification : notifications) {
+                String[] parts = notification.getParameter().split(":", 3);
+                if (parts.length < 3 || parts[0].equals(nodeId)) {
+                    continue;
+                }
+                if (parts[1].equals(REVOCATION)) {
+                    addRevocation(parts[2]);
+                    continue;
+                }
+                count++;
+                if (parts[1].equals(USER)) {
+                    emails.add(parts[2]);
+                }
+            }
+        }
+
+        private void addRevocation(String key) {
+            String[] parts = key.split(":", 3);
+            if (parts.length < 3) {
+                return;
+            }
+            try {
+                revocations.put(HashCode.fromString(parts[0]), Long.parseLong(parts[1]));
+                revokedUsers.add(parts[2]);
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("Ignoring malformed token revocation {}", key);
+            }
+        }
+    }
+}
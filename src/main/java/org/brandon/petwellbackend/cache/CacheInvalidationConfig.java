@@ -0,0 +1,44 @@
+package org.brandon.petwellbackend.cache;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "cache-invalidation")
+public class CacheInvalidationConfig {
+    private boolean enabled = true;
+
+    /**
+     * Postgres channel shared by all instances. Used as an identifier in {@code LISTEN}, hence the
+     * restricted characters.
+     */
+    @Pattern(regexp = "[a-z_][a-z0-9_]*")
+    private String channel = "petwell_cache_invalidation";
+
+    /**
+     * How long the listener keeps collecting notifications after the first one of a burst before it
+     * evicts.
+     */
+    @NotNull
+    private Duration coalesceWindow = Duration.ofMillis(50);
+
+    /**
+     * Users in one burst past which the user caches are cleared instead of evicted entry by entry.
+     */
+    @Min(1)
+    private int maxKeysPerBatch = 1_000;
+
+    @NotNull
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+}
@@ -20,6 +20,14 @@ public class CacheStore<K, V> {
                 .build();
     }
 
+    public CacheStore(int expiryDuration, TimeUnit timeUnit, long maximumSize) {
+        cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(expiryDuration, timeUnit)
+                .maximumSize(maximumSize)
+                .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+                .build();
+    }
+
     public V get(@NotNull K key) {
         LOGGER.debug("Getting record from cache with key {}", key.toString());
         return cache.getIfPresent(key);
@@ -34,4 +42,9 @@ public class CacheStore<K, V> {
         LOGGER.debug("Evicting record from cache with key {}", key.toString());
         cache.invalidate(key);
     }
+
+    public void evictAll() {
+        LOGGER.debug("Evicting all records from cache");
+        cache.invalidateAll();
+    }
 }
@@ -0,0 +1,36 @@
+package org.brandon.petwellbackend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.payload.AuditEventPage;
+import org.brandon.petwellbackend.payload.Response;
+import org.brandon.petwellbackend.service.AuditService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequestMapping("/api/v1/audit")
+@RequiredArgsConstructor
+public class AuditController {
+    private static final Duration DEFAULT_RANGE = Duration.ofDays(1);
+
+    private final AuditService auditService;
+
+    @GetMapping("/events")
+    @PreAuthorize("hasAnyAuthority('admin:read')")
+    public Response<AuditEventPage> getEvents(
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(DEFAULT_RANGE);
+        return Response.success(auditService.getEvents(start, end, cursor, limit), HttpStatus.OK);
+    }
+}
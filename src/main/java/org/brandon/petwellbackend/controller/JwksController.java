@@ -0,0 +1,21 @@
+package org.brandon.petwellbackend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.security.JwtKeyRing;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/auth")
+@RequiredArgsConstructor
+public class JwksController {
+    private final JwtKeyRing jwtKeyRing;
+
+    @GetMapping("/jwks")
+    public Map<String, ?> getPublicKeys() {
+        return jwtKeyRing.getPublicJwkSet();
+    }
+}
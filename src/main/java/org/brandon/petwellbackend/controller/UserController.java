@@ -4,22 +4,34 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.brandon.petwellbackend.common.Mapper;
+import org.brandon.petwellbackend.domain.RefreshedSession;
+import org.brandon.petwellbackend.domain.ResourceVersion;
 import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.exception.ApplicationException;
 import org.brandon.petwellbackend.payload.*;
+import org.brandon.petwellbackend.service.RefreshTokenService;
 import org.brandon.petwellbackend.service.UserService;
 import org.brandon.petwellbackend.service.JwtService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
+import static org.brandon.petwellbackend.service.impl.JwtServiceImpl.REFRESH_TOKEN_COOKIE;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestController
 @RequestMapping("/api/v1")
 @RequiredArgsConstructor
 public class UserController {
     private final UserService userService;
     private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
     private final Mapper mapper;
 
     @PostMapping("/auth/users/register")
@@ -27,9 +39,22 @@ public class UserController {
     public Response<UserDTO> registerUser(@RequestBody @Valid UserRegistrationRequest request, HttpServletResponse response) {
         UserEntity registeredUserEntity = userService.registerUser(request);
         addJwtCookie(registeredUserEntity, response);
+        addRefreshTokenCookie(registeredUserEntity, response);
         return Response.success(mapper.toUserDTO(registeredUserEntity), HttpStatus.CREATED);
     }
 
+    @PostMapping("/auth/token/refresh")
+    public Response<?> refreshAccessToken(@CookieValue(name = REFRESH_TOKEN_COOKIE, required = false) String refreshToken,
+                                          HttpServletResponse response) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new ApplicationException(HttpStatus.UNAUTHORIZED, "Not authorized");
+        }
+        RefreshedSession session = refreshTokenService.rotateRefreshToken(refreshToken);
+        addJwtCookie(session.user(), response);
+        jwtService.addRefreshTokenCookie(response, session.refreshToken());
+        return Response.success(null, HttpStatus.OK);
+    }
+
     @GetMapping("/auth/users/{user-email}")
     public Response<Boolean> checkIfEmailAlreadyRegistered(@PathVariable("user-email") String userEmail) {
         return Response.success(userService.isEmailAlreadyRegistered(userEmail), HttpStatus.OK);
@@ -37,13 +62,48 @@ public class UserController {
 
     @GetMapping("/users")
     @PreAuthorize("hasAnyAuthority('admin:read')")
-    public Response<List<UserDTO>> getAllUsers() {
+    public Response<?> getAllUsers(@RequestParam(name = "fields", required = false) String fields,
+                                   WebRequest webRequest, HttpServletResponse response) {
+        if (isNotModified(userService.getAllUsersVersion(), webRequest, response)) {
+            return null;
+        }
+        if (fields != null) {
+            return Response.success(userService.getAllUsers(fields), HttpStatus.OK);
+        }
         return Response.success(userService.getAllUsers(), HttpStatus.OK);
     }
 
+    @GetMapping("/users/search")
+    @PreAuthorize("hasAnyAuthority('admin:read')")
+    public Response<UserSearchPage> searchUsers(@RequestParam("q") String query,
+                                                @RequestParam(name = "cursor", required = false) String cursor,
+                                                @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        return Response.success(userService.searchUsers(query, cursor, limit), HttpStatus.OK);
+    }
+
+    @PostMapping("/users/batch")
+    @PreAuthorize("hasAnyAuthority('admin:read')")
+    public Response<UserBatch> getUsersByIDs(@RequestBody @Valid UserBatchRequest request) {
+        return Response.success(userService.getUsersByUserIDs(request.userIDs()), HttpStatus.OK);
+    }
+
+    @GetMapping("/users/stats")
+    @PreAuthorize("hasAnyAuthority('admin:read')")
+    public Response<UserStats> getUserStats(@RequestParam(name = "days", defaultValue = "30") int days) {
+        return Response.success(userService.getUserStats(days), HttpStatus.OK);
+    }
+
     @GetMapping("/users/{user-id}")
     @PreAuthorize("hasAnyAuthority('admin:read')")
-    public Response<UserDTO> getUserByID(@PathVariable("user-id") String userID) {
+    public Response<?> getUserByID(@PathVariable("user-id") String userID,
+                                   @RequestParam(name = "fields", required = false) String fields,
+                                   WebRequest webRequest, HttpServletResponse response) {
+        if (isNotModified(userService.getUserVersion(userID), webRequest, response)) {
+            return null;
+        }
+        if (fields != null) {
+            return Response.success(userService.getUserByUserID(userID, fields), HttpStatus.OK);
+        }
         return Response.success(userService.getUserByUserID(userID), HttpStatus.OK);
     }
 
@@ -61,7 +121,30 @@ public class UserController {
         return Response.success(null, HttpStatus.OK);
     }
 
+    @DeleteMapping("/users/{user-id}/sessions")
+    @PreAuthorize("hasAnyAuthority('admin:update')")
+    public Response<?> revokeAllSessions(@PathVariable("user-id") String userID) {
+        userService.revokeAllSessions(userID);
+        return Response.success(null, HttpStatus.OK);
+    }
+
+    /**
+     * The representation depends on the negotiated encoding, so both the 200 and the 304 vary by
+     * {@code Accept}.
+     */
+    private static boolean isNotModified(Optional<ResourceVersion> version, WebRequest webRequest,
+                                         HttpServletResponse response) {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        return version
+                .map(v -> webRequest.checkNotModified(v.eTag(), v.lastModified()))
+                .orElse(false);
+    }
+
     private void addJwtCookie(UserEntity userEntity, HttpServletResponse response) {
         jwtService.addCookie(response, userEntity);
     }
+
+    private void addRefreshTokenCookie(UserEntity userEntity, HttpServletResponse response) {
+        jwtService.addRefreshTokenCookie(response, refreshTokenService.issueRefreshToken(userEntity));
+    }
 }
@@ -0,0 +1,90 @@
+package org.brandon.petwellbackend.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.validation.annotation.Validated;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces the auto-configured pool with a primary and a replica pool once
+ * {@code spring.datasource.replica.url} is set. The replica pool is tuned through
+ * {@code spring.datasource.replica.hikari.*}.
+ */
+@Setter
+@Getter
+@Validated
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+@ConfigurationProperties(prefix = "spring.datasource.replica")
+public class ReplicaDataSourceConfig {
+    @NotBlank
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(dataSourceProperties.determineDriverClassName())
+                .url(url)
+                .username(username != null ? username : dataSourceProperties.determineUsername())
+                .password(password != null ? password : dataSourceProperties.determinePassword())
+                .build();
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+        return new LazyConnectionDataSourceProxy(new ReadOnlyRoutingDataSource(primaryDataSource, replicaDataSource));
+    }
+
+    /**
+     * Defining the data source switches off the auto-configured connection details, which the
+     * components that open their own connection to the primary rely on.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    JdbcConnectionDetails jdbcConnectionDetails(DataSourceProperties dataSourceProperties) {
+        return new JdbcConnectionDetails() {
+            @Override
+            public String getUsername() {
+                return dataSourceProperties.determineUsername();
+            }
+
+            @Override
+            public String getPassword() {
+                return dataSourceProperties.determinePassword();
+            }
+
+            @Override
+            public String getJdbcUrl() {
+                return dataSourceProperties.determineUrl();
+            }
+        };
+    }
+}
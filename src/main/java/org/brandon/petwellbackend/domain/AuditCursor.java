@@ -0,0 +1,41 @@
+package org.brandon.petwellbackend.domain;
+
+import org.brandon.petwellbackend.exception.ApplicationException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Keyset position in the audit log, which is read newest first: the time and ID of the last
+ * returned event.
+ */
+public record AuditCursor(Instant occurredAt, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Position just before {@code to}. Event IDs start at 1, so no event at exactly {@code to} sorts
+     * after it.
+     */
+    public static AuditCursor first(Instant to) {
+        return new AuditCursor(to, 0);
+    }
+
+    public String encode() {
+        String value = occurredAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static AuditCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            return new AuditCursor(Instant.parse(value.substring(0, separator)), Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new ApplicationException(HttpStatus.BAD_REQUEST, "Invalid audit cursor");
+        }
+    }
+}
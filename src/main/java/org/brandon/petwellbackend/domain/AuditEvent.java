@@ -0,0 +1,23 @@
+package org.brandon.petwellbackend.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.brandon.petwellbackend.enums.AuditEventType;
+
+import java.time.Instant;
+
+/**
+ * One entry of the audit log. The actor is whoever performed the action, the subject is the user it
+ * was performed on. The ID is assigned when the event is written, so it is null while queued.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AuditEvent(
+        Long id,
+        @JsonProperty("occurred_at")
+        Instant occurredAt,
+        AuditEventType type,
+        String actor,
+        String subject,
+        String detail
+) {
+}
@@ -0,0 +1,11 @@
+package org.brandon.petwellbackend.domain;
+
+import org.brandon.petwellbackend.enums.OutboxMessageType;
+
+/**
+ * @param type     The message type, {@code null} if this build does not know it
+ * @param payload  The message body as JSON
+ * @param attempts Delivery attempts so far, including the one in progress
+ */
+public record OutboxMessage(long id, OutboxMessageType type, String aggregateId, String payload, int attempts) {
+}
@@ -0,0 +1,8 @@
+package org.brandon.petwellbackend.domain;
+
+import lombok.Builder;
+import org.brandon.petwellbackend.entity.UserEntity;
+
+@Builder
+public record RefreshedSession(UserEntity user, String refreshToken) {
+}
@@ -0,0 +1,35 @@
+package org.brandon.petwellbackend.domain;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Validators for a conditional GET: an entity tag and the last modification time in epoch
+ * milliseconds, both derived from {@link Auditable#getUpdatedAt()}. The same resource is served as
+ * JSON, CBOR or Smile, so the tag is weak: it identifies the data, not the bytes of one encoding.
+ * Responses carrying it must also send {@code Vary: Accept}.
+ */
+public record ResourceVersion(String eTag, long lastModified) {
+
+    public static ResourceVersion of(LocalDateTime updatedAt) {
+        long millis = toEpochMilli(updatedAt);
+        return new ResourceVersion(weakETag(Long.toHexString(millis)), millis);
+    }
+
+    /**
+     * Version of a collection. The row count is part of the tag so that deleting a row, which leaves
+     * the newest {@code updatedAt} unchanged, still produces a new tag.
+     */
+    public static ResourceVersion of(LocalDateTime lastUpdatedAt, long count) {
+        long millis = toEpochMilli(lastUpdatedAt);
+        return new ResourceVersion(weakETag(Long.toHexString(millis) + "-" + Long.toHexString(count)), millis);
+    }
+
+    private static String weakETag(String value) {
+        return "W/\"" + value + "\"";
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,32 @@
+package org.brandon.petwellbackend.domain;
+
+import org.brandon.petwellbackend.exception.ApplicationException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in a ranked search: the score and user ID of the last returned row. Search scores
+ * never exceed 1, so {@link #FIRST} sorts before every row.
+ */
+public record SearchCursor(float score, String userID) {
+    public static final SearchCursor FIRST = new SearchCursor(2.0f, "");
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String value = Float.toString(score) + SEPARATOR + userID;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            return new SearchCursor(Float.parseFloat(value.substring(0, separator)), value.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ApplicationException(HttpStatus.BAD_REQUEST, "Invalid search cursor");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.brandon.petwellbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.brandon.petwellbackend.domain.Auditable;
+
+import java.time.LocalDateTime;
+
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+@Entity
+@Table(name = "refresh_tokens")
+public class RefreshToken extends Auditable {
+    /**
+     * SHA-256 of the opaque token handed to the client. The token itself is never stored.
+     */
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64, updatable = false)
+    private String tokenHash;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private String userID;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private boolean revoked;
+}
@@ -6,10 +6,13 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 import org.brandon.petwellbackend.domain.Auditable;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 
 @SuperBuilder
@@ -20,6 +23,7 @@ import java.util.Collection;
 @ToString
 @Entity
 @Table(name = "employees")
+@SQLRestriction("deleted_at is null")
 public class UserEntity extends Auditable implements UserDetails {
     @Column(updatable = false, unique = true, nullable = false)
     private String userID;
@@ -32,7 +36,11 @@ public class UserEntity extends Auditable implements UserDetails {
     @NotBlank(message = "Last name is required")
     private String lastname;
 
-    @Column(unique = true, nullable = false)
+    /**
+     * Unique among active users only, through a partial index in {@code schema.sql}, so that the
+     * address can be registered again once its user is deleted.
+     */
+    @Column(nullable = false)
     @NotBlank(message = "Email is required")
     @Email(message = "Invalid email address")
     private String email;
@@ -56,12 +64,34 @@ public class UserEntity extends Auditable implements UserDetails {
     @Column(nullable = false)
     private boolean isAccountNonLocked;
 
+    /**
+     * When the lock set after repeated failed logins expires. Any instance may clear the lock once
+     * this has passed, but never before.
+     */
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
     @Column(nullable = false)
     private boolean isCredentialsNonExpired;
 
     @Column(nullable = false)
     private boolean isEnabled;
 
+    /**
+     * Generation of the user's access tokens. Every token carries the generation it was issued with,
+     * so incrementing it invalidates all outstanding tokens at once.
+     */
+    @Column(name = "token_version", nullable = false)
+    @ColumnDefault("0")
+    private int tokenVersion;
+
+    /**
+     * Set when the user is deleted. Deleted users are invisible to all entity queries and are purged
+     * by {@code UserPurgeJob} once past retention.
+     */
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return role.getRoleType().getAuthorities();
@@ -0,0 +1,12 @@
+package org.brandon.petwellbackend.enums;
+
+public enum AuditEventType {
+    USER_CREATED,
+    USER_UPDATED,
+    USER_DELETED,
+    ROLE_CHANGED,
+    LOGIN,
+    LOGIN_FAILED,
+    LOGOUT,
+    SESSIONS_REVOKED
+}
@@ -0,0 +1,6 @@
+package org.brandon.petwellbackend.enums;
+
+public enum OutboxMessageType {
+    USER_REGISTERED,
+    USER_DELETED
+}
@@ -16,4 +16,12 @@ enum Permission {
     MANAGER_DELETE("manager:delete");
 
     private final String permission;
+
+    /**
+     * Bit used for this permission in the compact token claim. New permissions must be appended
+     * so that the bits of already issued tokens keep their meaning.
+     */
+    int getBit() {
+        return 1 << ordinal();
+    }
 }
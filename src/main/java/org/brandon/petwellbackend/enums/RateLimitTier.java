@@ -0,0 +1,8 @@
+package org.brandon.petwellbackend.enums;
+
+public enum RateLimitTier {
+    ANONYMOUS,
+    CLIENT,
+    MANAGER,
+    ADMIN
+}
@@ -1,7 +1,6 @@
 package org.brandon.petwellbackend.enums;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.Collections;
@@ -13,9 +12,8 @@ import static org.brandon.petwellbackend.enums.Permission.*;
 
 
 @Getter
-@RequiredArgsConstructor
 public enum RoleType {
-    ADMIN("Admin", Set.of(
+    ADMIN("Admin", "A", Set.of(
             ADMIN_READ,
             ADMIN_CREATE,
             ADMIN_UPDATE,
@@ -25,16 +23,27 @@ public enum RoleType {
             MANAGER_UPDATE,
             MANAGER_DELETE
     )),
-    MANAGER("manager", Set.of(
+    MANAGER("manager", "M", Set.of(
             MANAGER_READ,
             MANAGER_CREATE,
             MANAGER_UPDATE,
             MANAGER_DELETE
     )),
-    CLIENT("client", Collections.emptySet());
+    CLIENT("client", "C", Collections.emptySet());
 
     private final String name;
+    private final String code;
     private final Set<Permission> permissions;
+    private final int permissionMask;
+
+    RoleType(String name, String code, Set<Permission> permissions) {
+        this.name = name;
+        this.code = code;
+        this.permissions = permissions;
+        this.permissionMask = permissions.stream()
+                .mapToInt(Permission::getBit)
+                .reduce(0, (mask, bit) -> mask | bit);
+    }
 
     public List<SimpleGrantedAuthority> getAuthorities() {
         List<SimpleGrantedAuthority> authorities = permissions.stream()
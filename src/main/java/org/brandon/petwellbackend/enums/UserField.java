@@ -0,0 +1,39 @@
+package org.brandon.petwellbackend.enums;
+
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * Fields of {@code UserDTO} a client can ask for with {@code fields=}, by their JSON name, together
+ * with the {@code UserEntity} attribute each one is selected from.
+ */
+@Getter
+public enum UserField {
+    USER_ID("user_id", "userID"),
+    FIRST_NAME("first_name", "firstname"),
+    LAST_NAME("last_name", "lastname"),
+    EMAIL("email", "email"),
+    ROLE("role", "roleType"),
+    IS_ACCOUNT_NON_EXPIRED("is_account_non_expired", "isAccountNonExpired"),
+    IS_ACCOUNT_NON_LOCKED("is_account_non_locked", "isAccountNonLocked"),
+    IS_CREDENTIALS_NON_EXPIRED("is_credentials_non_expired", "isCredentialsNonExpired"),
+    IS_ENABLED("is_enabled", "isEnabled");
+
+    private final String jsonName;
+    private final String attribute;
+
+    UserField(String jsonName, String attribute) {
+        this.jsonName = jsonName;
+        this.attribute = attribute;
+    }
+
+    public static Optional<UserField> fromJsonName(String jsonName) {
+        for (UserField field : values()) {
+            if (field.jsonName.equals(jsonName)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -22,7 +22,7 @@ public class ApplicationException extends RuntimeException {
     }
 
     public ApplicationException(HttpStatus httpStatus, String message, Object data, Throwable cause) {
-        super(message);
+        super(message, null, false, httpStatus.is5xxServerError());
         this.httpStatus = httpStatus;
         this.data = data;
         this.cause = cause;
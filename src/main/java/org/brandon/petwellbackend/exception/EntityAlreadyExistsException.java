@@ -7,7 +7,7 @@ public class EntityAlreadyExistsException extends RuntimeException {
     private final String email;
 
     public EntityAlreadyExistsException(String message, String email) {
-        super(message);
+        super(message, null, false, false);
         this.email = email;
     }
 }
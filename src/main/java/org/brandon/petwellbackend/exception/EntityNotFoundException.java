@@ -7,7 +7,7 @@ public class EntityNotFoundException extends RuntimeException {
     private final String id;
 
     public EntityNotFoundException(String message, String id) {
-        super(message);
+        super(message, null, false, false);
         this.id = id;
     }
 }
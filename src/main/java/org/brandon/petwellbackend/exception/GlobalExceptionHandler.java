@@ -5,6 +5,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.brandon.petwellbackend.payload.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -22,8 +24,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
-import static org.brandon.petwellbackend.util.DateTimeUtil.parseAndFormatDateTime;
-
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestControllerAdvice
 public class GlobalExceptionHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(GlobalExceptionHandler.class);
@@ -31,41 +32,54 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(EntityAlreadyExistsException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
     public Response<Object> handleEntityAlreadyExistsException(HttpServletRequest req, EntityAlreadyExistsException e) {
-        LOGGER.error(e.getMessage(), e);
+        LOGGER.debug(e.getMessage());
         return Response.error(HttpStatus.CONFLICT, e.getMessage(), null, req);
     }
 
     @ExceptionHandler(EntityNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public Response<Object> handleNotFoundException(HttpServletRequest req, EntityNotFoundException e) {
-        LOGGER.error(e.getMessage(), e);
+        LOGGER.debug(e.getMessage());
         return Response.error(HttpStatus.NOT_FOUND, e.getMessage(), Map.of("id", e.getId()), req);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Response<Object> handleMethodArgumentNotValidException(HttpServletRequest req, MethodArgumentNotValidException e) {
-        LOGGER.error(e.getMessage(), e);
+        LOGGER.debug(e.getMessage());
         return Response.error(HttpStatus.BAD_REQUEST, "Validation failed", getFieldErrors(e), req);
     }
 
     @ExceptionHandler(JwtException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     public Response<Object> handleJWTException(HttpServletRequest req, JwtException e) {
-        LOGGER.error(e.getMessage(), e);
+        LOGGER.warn(e.getMessage());
         return Response.error(HttpStatus.UNAUTHORIZED, "Not authorized", null, req);
     }
 
     @ExceptionHandler(RateLimitExceededException.class)
-    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
-    public Response<Object> handleRateLimitExceededException(HttpServletRequest req, RateLimitExceededException e) {
-        LOGGER.error(e.getMessage(), e);
-        return Response.error(HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), null, req);
+    public ResponseEntity<Response<Object>> handleRateLimitExceededException(HttpServletRequest req, RateLimitExceededException e) {
+        LOGGER.debug(e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(Response.error(HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), null, req));
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Response<Object>> handleServiceOverloadedException(HttpServletRequest req, ServiceOverloadedException e) {
+        LOGGER.warn(e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+                .body(Response.error(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), null, req));
     }
 
     @ExceptionHandler(ApplicationException.class)
     public ResponseEntity<Response<Object>> handleApplicationException(HttpServletRequest req, ApplicationException e) {
-        LOGGER.error(e.getMessage(), e);
+        if (e.getHttpStatus().is5xxServerError()) {
+            LOGGER.error(e.getMessage(), e);
+        } else {
+            LOGGER.debug(e.getMessage());
+        }
         return new ResponseEntity<>(Response.error(e.getHttpStatus(), e.getMessage(), null, req), e.getHttpStatus());
     }
 
@@ -73,19 +87,19 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Response<Object>> handleException(HttpServletRequest req, Exception e) {
         switch (e) {
             case AccountStatusException _ -> {
-                LOGGER.error(e.getMessage(), e);
+                LOGGER.warn(e.getMessage());
                 return new ResponseEntity<>(Response
                         .error(HttpStatus.UNAUTHORIZED, "Not authorized", null, req),
                         HttpStatus.UNAUTHORIZED);
             }
             case BadCredentialsException _ -> {
-                LOGGER.error(e.getMessage(), e);
+                LOGGER.warn(e.getMessage());
                 return new ResponseEntity<>(Response
                         .error(HttpStatus.UNAUTHORIZED, "Invalid email or password", null, req),
                         HttpStatus.UNAUTHORIZED);
             }
             case AccessDeniedException _ -> {
-                LOGGER.error(e.getMessage(), e);
+                LOGGER.warn(e.getMessage());
                 return new ResponseEntity<>(Response
                         .error(HttpStatus.FORBIDDEN, e.getMessage(), null, req),
                         HttpStatus.FORBIDDEN);
@@ -1,7 +1,15 @@
 package org.brandon.petwellbackend.exception;
 
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
 public class RateLimitExceededException extends RuntimeException {
-    public RateLimitExceededException(String message) {
-        super(message);
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String message, Duration retryAfter) {
+        super(message, null, false, false);
+        this.retryAfter = retryAfter;
     }
 }
@@ -0,0 +1,25 @@
+package org.brandon.petwellbackend.logging;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Setter
+@Getter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogConfig {
+    private boolean enabled = true;
+
+    /**
+     * Fraction of successful requests that are logged. Requests answered with 4xx or 5xx are always logged.
+     */
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double successSampleRate = 0.1;
+}
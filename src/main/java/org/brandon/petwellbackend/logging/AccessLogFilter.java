@@ -0,0 +1,76 @@
+package org.brandon.petwellbackend.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes one structured record per request to the {@code access} logger, which is backed by an
+ * asynchronous appender in {@code logback-spring.xml}. Successful requests are sampled.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class AccessLogFilter extends OncePerRequestFilter {
+    public static final String PRINCIPAL_ATTRIBUTE = AccessLogFilter.class.getName() + ".principal";
+
+    private static final Logger ACCESS_LOGGER = LoggerFactory.getLogger("access");
+
+    private final AccessLogConfig accessLogConfig;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (!accessLogConfig.isEnabled() || !ACCESS_LOGGER.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        DbTimeSessionListener.reset();
+        int status = HttpServletResponse.SC_OK;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } catch (Throwable e) {
+            // The container only sets the error status after the exception has left this filter.
+            status = response.isCommitted() ? response.getStatus() : HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+            throw e;
+        } finally {
+            if (status >= 400 || isSampled()) {
+                log(request, status, System.nanoTime() - start, DbTimeSessionListener.elapsedNanos());
+            }
+        }
+    }
+
+    private boolean isSampled() {
+        double rate = accessLogConfig.getSuccessSampleRate();
+        return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private static void log(HttpServletRequest request, int status, long latencyNanos, long dbNanos) {
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Object principal = request.getAttribute(PRINCIPAL_ATTRIBUTE);
+        ACCESS_LOGGER.atInfo()
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("route", route != null ? route : request.getRequestURI())
+                .addKeyValue("status", status)
+                .addKeyValue("principal", principal != null ? principal : "-")
+                .addKeyValue("latency_ms", TimeUnit.NANOSECONDS.toMillis(latencyNanos))
+                .addKeyValue("db_ms", TimeUnit.NANOSECONDS.toMillis(dbNanos))
+                .log("request");
+    }
+}
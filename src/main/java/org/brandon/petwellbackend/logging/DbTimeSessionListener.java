@@ -0,0 +1,42 @@
+package org.brandon.petwellbackend.logging;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Accumulates the time the current thread spends executing JDBC statements, so the access log can
+ * report database time per request. Registered through {@code hibernate.session.events.auto}.
+ */
+public class DbTimeSessionListener implements SessionEventListener {
+    private static final ThreadLocal<long[]> DB_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private long statementStart;
+    private long batchStart;
+
+    public static void reset() {
+        DB_NANOS.get()[0] = 0;
+    }
+
+    public static long elapsedNanos() {
+        return DB_NANOS.get()[0];
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        DB_NANOS.get()[0] += System.nanoTime() - statementStart;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        DB_NANOS.get()[0] += System.nanoTime() - batchStart;
+    }
+}
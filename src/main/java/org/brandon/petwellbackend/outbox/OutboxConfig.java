@@ -0,0 +1,73 @@
+package org.brandon.petwellbackend.outbox;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.net.URI;
+import java.time.Duration;
+
+@Setter
+@Getter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxConfig {
+    private boolean enabled = true;
+
+    /**
+     * Virtual threads draining the outbox. Each claims its own batch, so this is also the number of
+     * messages delivered concurrently.
+     */
+    @Min(1)
+    private int workers = 4;
+
+    @Min(1)
+    private int batchSize = 50;
+
+    /**
+     * How often idle workers look for due messages. Messages written on this instance wake a worker
+     * as soon as their transaction commits.
+     */
+    @NotNull
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * How long a claimed message stays hidden from other workers. Must exceed the slowest delivery,
+     * or a message may be delivered twice.
+     */
+    @NotNull
+    private Duration lease = Duration.ofMinutes(5);
+
+    @Min(1)
+    private int maxAttempts = 10;
+
+    /**
+     * Delay before the first retry, doubled for each further attempt up to {@link #maxBackoff}.
+     */
+    @NotNull
+    private Duration baseBackoff = Duration.ofSeconds(10);
+
+    @NotNull
+    private Duration maxBackoff = Duration.ofHours(1);
+
+    @Valid
+    private Webhook webhook = new Webhook();
+
+    @Setter
+    @Getter
+    public static class Webhook {
+        /**
+         * Endpoint that receives every outbox message. The webhook handler is only registered when set.
+         */
+        private URI url;
+
+        @NotNull
+        private Duration timeout = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,20 @@
+package org.brandon.petwellbackend.outbox;
+
+import org.brandon.petwellbackend.domain.OutboxMessage;
+import org.brandon.petwellbackend.enums.OutboxMessageType;
+
+import java.util.Set;
+
+/**
+ * Delivers outbox messages to a downstream system. Handlers are picked up as beans; at most one
+ * handler may claim each message type. Delivery is at least once, so handlers should pass
+ * {@link OutboxMessage#id()} on as an idempotency key.
+ */
+public interface OutboxMessageHandler {
+    Set<OutboxMessageType> types();
+
+    /**
+     * @throws Exception to have the message retried later
+     */
+    void handle(OutboxMessage message) throws Exception;
+}
@@ -0,0 +1,45 @@
+package org.brandon.petwellbackend.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.enums.OutboxMessageType;
+import org.brandon.petwellbackend.exception.ApplicationException;
+import org.brandon.petwellbackend.repository.OutboxMessageRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Records side effects of a change in the outbox, in the same transaction as the change itself. The
+ * message becomes visible to {@link OutboxRelay} exactly when the change commits, and is discarded
+ * with it on rollback. Types that no handler delivers are not written at all.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final OutboxRelay outboxRelay;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OutboxMessageType type, String aggregateId, Object payload) {
+        if (!outboxRelay.hasHandler(type)) {
+            return;
+        }
+        try {
+            outboxMessageRepository.insert(type, aggregateId, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new ApplicationException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.wakeUp();
+            }
+        });
+    }
+}
@@ -0,0 +1,188 @@
+package org.brandon.petwellbackend.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.brandon.petwellbackend.domain.OutboxMessage;
+import org.brandon.petwellbackend.enums.OutboxMessageType;
+import org.brandon.petwellbackend.repository.OutboxMessageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the outbox on a fixed number of virtual threads. Each worker claims a batch of due
+ * messages, hands them to their {@link OutboxMessageHandler} and deletes the delivered ones. A
+ * failed delivery is retried with exponential backoff and parked after
+ * {@link OutboxConfig#getMaxAttempts() the last attempt}, as is a message of a type this build does
+ * not know, so that an instance running a newer version can still deliver it. Slow or failing downstreams only hold up
+ * these workers, never the requests that wrote the messages.
+ */
+@Component
+public class OutboxRelay implements SmartLifecycle {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final OutboxConfig outboxConfig;
+    private final Map<OutboxMessageType, OutboxMessageHandler> handlers = new EnumMap<>(OutboxMessageType.class);
+    private final Semaphore wakeUps = new Semaphore(0);
+    private final List<Thread> workers = new ArrayList<>();
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter parked;
+
+    private volatile boolean running;
+
+    public OutboxRelay(OutboxMessageRepository outboxMessageRepository, OutboxConfig outboxConfig,
+                       List<OutboxMessageHandler> outboxMessageHandlers, MeterRegistry meterRegistry) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.outboxConfig = outboxConfig;
+        for (OutboxMessageHandler handler : outboxMessageHandlers) {
+            for (OutboxMessageType type : handler.types()) {
+                OutboxMessageHandler previous = handlers.put(type, handler);
+                if (previous != null) {
+                    throw new IllegalStateException("Both " + previous.getClass().getSimpleName() + " and "
+                            + handler.getClass().getSimpleName() + " handle " + type);
+                }
+            }
+        }
+        this.delivered = Counter.builder("petwell.outbox.messages.delivered")
+                .description("Outbox messages delivered")
+                .register(meterRegistry);
+        this.failed = Counter.builder("petwell.outbox.messages.failed")
+                .description("Failed outbox delivery attempts")
+                .register(meterRegistry);
+        this.parked = Counter.builder("petwell.outbox.messages.parked")
+                .description("Outbox messages given up on after the last attempt")
+                .register(meterRegistry);
+    }
+
+    public boolean hasHandler(OutboxMessageType type) {
+        return handlers.containsKey(type);
+    }
+
+    /**
+     * Lets an idle worker look for messages right away instead of waiting for the next poll.
+     */
+    public void wakeUp() {
+        wakeUps.release();
+    }
+
+    @Override
+    public void start() {
+        if (!outboxConfig.isEnabled() || handlers.isEmpty()) {
+            return;
+        }
+        running = true;
+        Thread.Builder builder = Thread.ofVirtual().name("outbox-worker-", 0);
+        for (int i = 0; i < outboxConfig.getWorkers(); i++) {
+            workers.add(builder.start(this::work));
+        }
+    }
+
+    /**
+     * Lets every worker finish its current batch. Messages of a batch that does not finish in time are
+     * handed out again once their lease expires.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        wakeUps.release(workers.size());
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        workers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void work() {
+        while (running) {
+            int claimed;
+            try {
+                claimed = relayBatch();
+            } catch (RuntimeException e) {
+                LOGGER.error("Could not relay outbox messages", e);
+                claimed = 0;
+            }
+            if (claimed < outboxConfig.getBatchSize()) {
+                try {
+                    if (wakeUps.tryAcquire(outboxConfig.getPollInterval().toMillis(), TimeUnit.MILLISECONDS)) {
+                        wakeUps.drainPermits();
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Claims one batch of due messages and delivers it.
+     *
+     * @return the number of messages claimed
+     */
+    int relayBatch() {
+        List<OutboxMessage> batch = outboxMessageRepository.claim(outboxConfig.getBatchSize(), outboxConfig.getLease());
+        for (OutboxMessage message : batch) {
+            deliver(message);
+        }
+        return batch.size();
+    }
+
+    private void deliver(OutboxMessage message) {
+        if (message.type() == null) {
+            retryOrPark(message, "Unknown message type", null);
+            return;
+        }
+        OutboxMessageHandler handler = handlers.get(message.type());
+        if (handler == null) {
+            LOGGER.warn("No handler for outbox message {} of type {}, discarding it", message.id(), message.type());
+            outboxMessageRepository.delete(message.id());
+            return;
+        }
+        try {
+            handler.handle(message);
+        } catch (Exception e) {
+            retryOrPark(message, e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+            return;
+        }
+        outboxMessageRepository.delete(message.id());
+        delivered.increment();
+    }
+
+    private void retryOrPark(OutboxMessage message, String error, Exception e) {
+        failed.increment();
+        if (message.attempts() >= outboxConfig.getMaxAttempts()) {
+            LOGGER.error("Giving up on outbox message {} of type {} after {} attempts: {}",
+                    message.id(), message.type(), message.attempts(), error, e);
+            outboxMessageRepository.park(message.id(), error);
+            parked.increment();
+        } else {
+            Duration backoff = backoff(message.attempts());
+            LOGGER.warn("Could not deliver outbox message {} of type {}, retrying in {}: {}",
+                    message.id(), message.type(), backoff, error);
+            outboxMessageRepository.reschedule(message.id(), backoff, error);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = outboxConfig.getBaseBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(outboxConfig.getMaxBackoff()) > 0 ? outboxConfig.getMaxBackoff() : backoff;
+    }
+}
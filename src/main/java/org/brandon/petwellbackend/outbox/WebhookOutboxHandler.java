@@ -0,0 +1,57 @@
+package org.brandon.petwellbackend.outbox;
+
+import org.brandon.petwellbackend.domain.OutboxMessage;
+import org.brandon.petwellbackend.enums.OutboxMessageType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Posts every outbox message as JSON to {@code outbox.webhook.url}. The message type and id are sent
+ * as headers, the id serving as idempotency key for the receiver. Anything but a 2xx response
+ * counts as a failed delivery.
+ */
+@Component
+@ConditionalOnProperty(prefix = "outbox.webhook", name = "url")
+public class WebhookOutboxHandler implements OutboxMessageHandler {
+    static final String MESSAGE_TYPE_HEADER = "X-Outbox-Message-Type";
+    static final String MESSAGE_ID_HEADER = "X-Outbox-Message-Id";
+
+    private final OutboxConfig.Webhook webhook;
+    private final HttpClient httpClient;
+
+    public WebhookOutboxHandler(OutboxConfig outboxConfig) {
+        this.webhook = outboxConfig.getWebhook();
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(webhook.getTimeout())
+                .build();
+    }
+
+    @Override
+    public Set<OutboxMessageType> types() {
+        return EnumSet.allOf(OutboxMessageType.class);
+    }
+
+    @Override
+    public void handle(OutboxMessage message) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(webhook.getUrl())
+                .timeout(webhook.getTimeout())
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(MESSAGE_TYPE_HEADER, message.type().name())
+                .header(MESSAGE_ID_HEADER, String.valueOf(message.id()))
+                .POST(HttpRequest.BodyPublishers.ofString(message.payload()))
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Webhook responded with status " + response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.brandon.petwellbackend.payload;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.brandon.petwellbackend.domain.AuditEvent;
+
+import java.util.List;
+
+public record AuditEventPage(
+        List<AuditEvent> events,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @JsonProperty("next_cursor")
+        String nextCursor
+) {
+}
@@ -41,13 +41,17 @@ public class Response<T> {
     }
 
     public static <T> Response<T> error(HttpStatus statusCode, String message, T errors, HttpServletRequest request) {
+        return error(statusCode, message, errors, request.getServletPath());
+    }
+
+    public static <T> Response<T> error(HttpStatus statusCode, String message, T errors, String path) {
         return Response.<T>builder()
                 .success(Result.ERROR.value)
                 .message(message)
                 .statusCode(statusCode.value())
-                .path(request.getServletPath())
+                .path(path)
                 .errors(errors)
-                .timestamp(DateTimeUtil.parseAndFormatDateTime(LocalDateTime.now()))
+                .timestamp(DateTimeUtil.formatDateTime(LocalDateTime.now()))
                 .build();
     }
 
@@ -0,0 +1,12 @@
+package org.brandon.petwellbackend.payload;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record UserBatch(
+        List<UserDTO> users,
+        @JsonProperty("missing_ids")
+        List<String> missingIDs
+) {
+}
@@ -0,0 +1,16 @@
+package org.brandon.petwellbackend.payload;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record UserBatchRequest(
+        @NotEmpty(message = "At least one user ID is required")
+        @Size(max = 500, message = "At most 500 user IDs can be requested at once")
+        @JsonProperty("user_ids")
+        List<@NotBlank(message = "User IDs must not be blank") String> userIDs
+) {
+}
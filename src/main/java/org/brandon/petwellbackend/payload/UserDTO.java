@@ -5,6 +5,7 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
+import org.brandon.petwellbackend.enums.RoleType;
 
 @Builder
 public record UserDTO(
@@ -30,4 +31,13 @@ public record UserDTO(
         @JsonProperty("is_enabled")
         boolean isEnabled
 ) {
+    /**
+     * Used by the JPQL constructor expressions in {@code UserEntityRepository}.
+     */
+    public UserDTO(String userID, String firstname, String lastname, String email, RoleType roleType,
+                   boolean isAccountNonExpired, boolean isAccountNonLocked, boolean isCredentialsNonExpired,
+                   boolean isEnabled) {
+        this(userID, firstname, lastname, email, roleType != null ? roleType.getName() : null,
+                isAccountNonExpired, isAccountNonLocked, isCredentialsNonExpired, isEnabled);
+    }
 }
@@ -0,0 +1,14 @@
+package org.brandon.petwellbackend.payload;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record UserLifecycleMessage(
+        @JsonProperty("user_id")
+        String userID,
+        String email,
+        @JsonProperty("first_name")
+        String firstname,
+        @JsonProperty("last_name")
+        String lastname
+) {
+}
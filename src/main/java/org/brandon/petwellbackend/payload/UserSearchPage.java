@@ -0,0 +1,14 @@
+package org.brandon.petwellbackend.payload;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record UserSearchPage(
+        List<UserDTO> users,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @JsonProperty("next_cursor")
+        String nextCursor
+) {
+}
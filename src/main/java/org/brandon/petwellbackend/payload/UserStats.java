@@ -0,0 +1,27 @@
+package org.brandon.petwellbackend.payload;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.brandon.petwellbackend.enums.RoleType;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public record UserStats(
+        @JsonProperty("total_users")
+        long totalUsers,
+        @JsonProperty("enabled_users")
+        long enabledUsers,
+        @JsonProperty("locked_users")
+        long lockedUsers,
+        @JsonProperty("users_by_role")
+        Map<RoleType, Long> usersByRole,
+        @JsonProperty("registrations_per_day")
+        List<DailyRegistrations> registrationsPerDay,
+        @JsonProperty("refreshed_at")
+        Instant refreshedAt
+) {
+    public record DailyRegistrations(LocalDate day, long registrations) {
+    }
+}
@@ -0,0 +1,44 @@
+package org.brandon.petwellbackend.purge;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "user-purge")
+public class UserPurgeConfig {
+    private boolean enabled = true;
+
+    /**
+     * How long deleted users are kept before they are purged.
+     */
+    @NotNull
+    private Duration retention = Duration.ofDays(30);
+
+    /**
+     * Users removed per transaction. Small batches keep row locks short.
+     */
+    @Min(1)
+    private int batchSize = 200;
+
+    /**
+     * Pause between two batches, leaving room for regular traffic.
+     */
+    @NotNull
+    private Duration pause = Duration.ofMillis(500);
+
+    /**
+     * Upper bound for a single run; whatever is left is purged by the next one.
+     */
+    @NotNull
+    private Duration maxRunTime = Duration.ofMinutes(10);
+}
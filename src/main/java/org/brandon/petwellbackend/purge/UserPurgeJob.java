@@ -0,0 +1,80 @@
+package org.brandon.petwellbackend.purge;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.repository.UserEntityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Physically removes users that were deleted more than {@link UserPurgeConfig#getRetention()} ago.
+ * Runs off-peak and removes users in small batches, one transaction each, pausing between batches.
+ * Several instances may run it at the same time; each batch skips rows another one has locked.
+ * <p>
+ * The schedule only hands the run to the job's own thread, so the pauses never hold up the shared
+ * scheduler. A trigger that fires while the previous run is still going is skipped.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPurgeJob {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UserPurgeJob.class);
+
+    private final UserEntityRepository userEntityRepository;
+    private final UserPurgeConfig userPurgeConfig;
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(Thread.ofPlatform().name("user-purge").daemon().factory());
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(cron = "${user-purge.cron:0 */15 1-4 * * *}")
+    public void schedulePurge() {
+        if (!userPurgeConfig.isEnabled() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                purgeDeletedUsers();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Purges batches until none is left or {@link UserPurgeConfig#getMaxRunTime()} has passed.
+     */
+    public void purgeDeletedUsers() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(userPurgeConfig.getRetention());
+        long deadline = System.nanoTime() + userPurgeConfig.getMaxRunTime().toNanos();
+        int total = 0;
+        try {
+            int purged;
+            do {
+                purged = userEntityRepository.purgeDeletedUsers(cutoff, userPurgeConfig.getBatchSize());
+                total += purged;
+                if (purged == userPurgeConfig.getBatchSize()) {
+                    Thread.sleep(userPurgeConfig.getPause());
+                }
+            } while (purged == userPurgeConfig.getBatchSize() && System.nanoTime() < deadline);
+        } catch (DataAccessException e) {
+            LOGGER.error("Could not purge deleted users", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (total > 0) {
+            LOGGER.info("Purged {} users deleted before {}", total, cutoff);
+        }
+    }
+}
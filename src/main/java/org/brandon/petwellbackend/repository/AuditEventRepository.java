@@ -0,0 +1,97 @@
+package org.brandon.petwellbackend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.domain.AuditCursor;
+import org.brandon.petwellbackend.domain.AuditEvent;
+import org.brandon.petwellbackend.enums.AuditEventType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Plain JDBC access to the {@code audit_events} table, which is partitioned by month on
+ * {@code occurred_at} (see {@code schema.sql}). Events are only ever inserted in batches and read
+ * by time range, so JPA would add nothing but per-row overhead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditEventRepository {
+    private static final String INSERT_EVENT = """
+            INSERT INTO audit_events (occurred_at, event_type, actor, subject, detail)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_EVENTS = """
+            SELECT id, occurred_at, event_type, actor, subject, detail
+            FROM audit_events
+            WHERE occurred_at >= ? AND occurred_at <= ? AND (occurred_at, id) < (?, ?)
+            ORDER BY occurred_at DESC, id DESC
+            LIMIT ?
+            """;
+
+    private static final RowMapper<AuditEvent> AUDIT_EVENT_MAPPER = (rs, _) -> new AuditEvent(
+            rs.getLong("id"),
+            rs.getObject("occurred_at", OffsetDateTime.class).toInstant(),
+            AuditEventType.valueOf(rs.getString("event_type")),
+            rs.getString("actor"),
+            rs.getString("subject"),
+            rs.getString("detail"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<AuditEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_EVENT, events, events.size(), (ps, event) -> {
+            ps.setObject(1, toOffsetDateTime(event.occurredAt()));
+            ps.setString(2, event.type().name());
+            ps.setString(3, event.actor());
+            ps.setString(4, event.subject());
+            ps.setString(5, event.detail());
+        });
+    }
+
+    /**
+     * @return up to {@code limit} events at or after {@code from} that sort after {@code after},
+     * newest first
+     */
+    public List<AuditEvent> findEvents(Instant from, AuditCursor after, int limit) {
+        OffsetDateTime afterTime = toOffsetDateTime(after.occurredAt());
+        return jdbcTemplate.query(SELECT_EVENTS, AUDIT_EVENT_MAPPER,
+                toOffsetDateTime(from), afterTime, afterTime, after.id(), limit);
+    }
+
+    /**
+     * Creates the partition of the given month unless it exists. Events of that month that already
+     * landed in the default partition are moved into the new one before it is attached; attaching
+     * it with such rows still in the default partition would fail.
+     */
+    @Transactional
+    public void createPartition(YearMonth month) {
+        String partition = String.format("audit_events_%d_%02d", month.getYear(), month.getMonthValue());
+        OffsetDateTime start = month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+        OffsetDateTime end = start.plusMonths(1);
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(hashtext('audit_events_partitions'))", Object.class);
+        if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition)) {
+            return;
+        }
+        jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE audit_events INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        jdbcTemplate.update("""
+                WITH moved AS (
+                    DELETE FROM audit_events_default WHERE occurred_at >= ? AND occurred_at < ? RETURNING *
+                )
+                INSERT INTO %s SELECT * FROM moved
+                """.formatted(partition), start, end);
+        jdbcTemplate.execute(String.format("ALTER TABLE audit_events ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')",
+                partition, start, end));
+    }
+
+    private static OffsetDateTime toOffsetDateTime(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,95 @@
+package org.brandon.petwellbackend.repository;
+
+import com.google.common.base.Enums;
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.domain.OutboxMessage;
+import org.brandon.petwellbackend.enums.OutboxMessageType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Plain JDBC access to the {@code outbox_messages} table. Messages are claimed by pushing their
+ * {@code available_at} past a lease, in a single statement that skips rows other workers have
+ * locked. No lock is held while a message is delivered, and a message whose worker died becomes
+ * available again once its lease runs out.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxMessageRepository {
+    private static final String INSERT_MESSAGE = """
+            INSERT INTO outbox_messages (message_type, aggregate_id, payload)
+            VALUES (?, ?, ?::jsonb)
+            """;
+
+    private static final String CLAIM_MESSAGES = """
+            UPDATE outbox_messages m
+            SET available_at = now() + make_interval(secs => ?), attempts = m.attempts + 1
+            FROM (SELECT id
+                  FROM outbox_messages
+                  WHERE available_at <= now()
+                  ORDER BY available_at, id
+                  LIMIT ?
+                  FOR UPDATE SKIP LOCKED) claimed
+            WHERE m.id = claimed.id
+            RETURNING m.id, m.message_type, m.aggregate_id, m.payload::text AS payload, m.attempts
+            """;
+
+    private static final String RESCHEDULE_MESSAGE = """
+            UPDATE outbox_messages
+            SET available_at = now() + make_interval(secs => ?), last_error = left(?, 1024)
+            WHERE id = ?
+            """;
+
+    private static final String PARK_MESSAGE = """
+            UPDATE outbox_messages
+            SET available_at = 'infinity', last_error = left(?, 1024)
+            WHERE id = ?
+            """;
+
+    /**
+     * Types this build does not know, such as ones written by a newer version during a rolling
+     * deploy, are mapped to {@code null} so that the relay can hand the message back.
+     */
+    private static final RowMapper<OutboxMessage> OUTBOX_MESSAGE_MAPPER = (rs, _) -> new OutboxMessage(
+            rs.getLong("id"),
+            Enums.getIfPresent(OutboxMessageType.class, rs.getString("message_type")).orNull(),
+            rs.getString("aggregate_id"),
+            rs.getString("payload"),
+            rs.getInt("attempts"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(OutboxMessageType type, String aggregateId, String payload) {
+        jdbcTemplate.update(INSERT_MESSAGE, type.name(), aggregateId, payload);
+    }
+
+    /**
+     * @return up to {@code limit} messages that are due, each leased to the caller for {@code lease}
+     */
+    public List<OutboxMessage> claim(int limit, Duration lease) {
+        return jdbcTemplate.query(CLAIM_MESSAGES, OUTBOX_MESSAGE_MAPPER, toSeconds(lease), limit);
+    }
+
+    public void delete(long id) {
+        jdbcTemplate.update("DELETE FROM outbox_messages WHERE id = ?", id);
+    }
+
+    public void reschedule(long id, Duration delay, String error) {
+        jdbcTemplate.update(RESCHEDULE_MESSAGE, toSeconds(delay), error, id);
+    }
+
+    /**
+     * Keeps the message for inspection but never hands it out again.
+     */
+    public void park(long id, String error) {
+        jdbcTemplate.update(PARK_MESSAGE, error, id);
+    }
+
+    private static double toSeconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+}
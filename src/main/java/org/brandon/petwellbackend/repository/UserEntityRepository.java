@@ -1,13 +1,75 @@
 package org.brandon.petwellbackend.repository;
 
 import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.payload.UserDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserEntityRepository extends JpaRepository<UserEntity, Long> {
+public interface UserEntityRepository extends JpaRepository<UserEntity, Long>, UserFieldsRepository {
+    String SELECT_USER_DTO = """
+            select new org.brandon.petwellbackend.payload.UserDTO(
+                u.userID, u.firstname, u.lastname, u.email, r.roleType,
+                u.isAccountNonExpired, u.isAccountNonLocked, u.isCredentialsNonExpired, u.isEnabled)
+            from UserEntity u left join u.role r
+            """;
+
+    /**
+     * Prefix matches score 1, other rows score by trigram similarity. Both predicates are served by
+     * the GIN trigram indexes in {@code schema.sql}. The score is computed, so the cursor predicate can
+     * only filter after every match has been scored; it saves transferring skipped rows, not reading
+     * them.
+     */
+    String SEARCH_USERS = """
+            select * from (
+                select e.userid as "userID", e.first_name as "firstname", e.last_name as "lastname",
+                       e.email as "email", r.role_type as "roleType",
+                       e.is_account_non_expired as "isAccountNonExpired", e.is_account_non_locked as "isAccountNonLocked",
+                       e.is_credentials_non_expired as "isCredentialsNonExpired", e.is_enabled as "isEnabled",
+                       case
+                           when lower(e.first_name) like :prefix or lower(e.last_name) like :prefix
+                               or lower(e.email) like :prefix then cast(1 as real)
+                           else greatest(similarity(lower(e.first_name), :query), similarity(lower(e.last_name), :query),
+                                         similarity(lower(e.email), :query))
+                       end as "score"
+                from employees e
+                left join user_roles ur on ur.user_id = e.id
+                left join roles r on r.id = ur.role_id
+                where e.deleted_at is null
+                  and (lower(e.first_name) like :prefix or lower(e.last_name) like :prefix or lower(e.email) like :prefix
+                   or lower(e.first_name) % :query or lower(e.last_name) % :query or lower(e.email) % :query)
+            ) ranked
+            where ranked."score" < cast(:afterScore as real)
+               or (ranked."score" = cast(:afterScore as real) and ranked."userID" > :afterUserID)
+            order by ranked."score" desc, ranked."userID"
+            limit :limit
+            """;
+
+    String PURGE_DELETED_USERS = """
+            with purged as (
+                select id, userid from employees
+                where deleted_at < :cutoff
+                order by deleted_at
+                limit :limit
+                for update skip locked
+            ), assignments as (
+                delete from user_roles where user_id in (select id from purged) returning role_id
+            ), purged_roles as (
+                delete from roles where id in (select role_id from assignments)
+            ), purged_tokens as (
+                delete from refresh_tokens where user_id in (select userid from purged)
+            )
+            delete from employees where id in (select id from purged)
+            """;
 
     boolean existsByEmail(String email);
 
@@ -15,5 +77,87 @@ public interface UserEntityRepository extends JpaRepository<UserEntity, Long> {
 
     Optional<UserEntity> findByUserID(String userId);
 
-    void deleteByUserID(String userId);
+    @Query(SELECT_USER_DTO + "order by u.lastname")
+    List<UserDTO> findAllUserDTOs();
+
+    @Query(SELECT_USER_DTO + "where u.userID = :userID")
+    Optional<UserDTO> findUserDTOByUserID(@Param("userID") String userID);
+
+    @Query(SELECT_USER_DTO + "where u.userID in :userIDs")
+    List<UserDTO> findUserDTOsByUserIDIn(@Param("userIDs") Collection<String> userIDs);
+
+    @Query(value = SEARCH_USERS, nativeQuery = true)
+    List<UserSearchResult> searchUsers(@Param("query") String query, @Param("prefix") String prefix,
+                                       @Param("afterScore") float afterScore, @Param("afterUserID") String afterUserID,
+                                       @Param("limit") int limit);
+
+    @Modifying
+    @Query("update UserEntity u set u.deletedAt = local datetime, u.updatedAt = local datetime where u.userID = :userID")
+    int softDeleteByUserID(@Param("userID") String userID);
+
+    /**
+     * Physically removes up to {@code limit} users deleted before {@code cutoff}, together with their
+     * role assignment, role and refresh tokens. Rows locked by a concurrent purge are skipped.
+     *
+     * @return the number of purged users
+     */
+    @Transactional
+    @Modifying
+    @Query(value = PURGE_DELETED_USERS, nativeQuery = true)
+    int purgeDeletedUsers(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Query("select u.updatedAt from UserEntity u where u.userID = :userID")
+    Optional<LocalDateTime> findUpdatedAtByUserID(@Param("userID") String userID);
+
+    @Query("select max(u.updatedAt) as lastUpdatedAt, count(u) as count from UserEntity u")
+    CollectionVersion findCollectionVersion();
+
+    @Query("select u.tokenVersion from UserEntity u where u.email = :email")
+    Optional<Integer> findTokenVersionByEmail(@Param("email") String email);
+
+    @Modifying
+    @Query("update UserEntity u set u.tokenVersion = u.tokenVersion + 1, u.updatedAt = local datetime where u.userID = :userID")
+    int incrementTokenVersion(@Param("userID") String userID);
+
+    @Modifying
+    @Query("""
+            update UserEntity u set u.isAccountNonLocked = false, u.lockedUntil = :lockedUntil, u.updatedAt = local datetime
+            where lower(u.email) = lower(:email)
+            """)
+    int lockAccount(@Param("email") String email, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Query("""
+            update UserEntity u set u.isAccountNonLocked = true, u.lockedUntil = null, u.updatedAt = local datetime
+            where lower(u.email) = lower(:email) and u.isAccountNonLocked = false and u.lockedUntil <= :now
+            """)
+    int releaseExpiredAccountLock(@Param("email") String email, @Param("now") LocalDateTime now);
+
+    interface UserSearchResult {
+        String getUserID();
+
+        String getFirstname();
+
+        String getLastname();
+
+        String getEmail();
+
+        String getRoleType();
+
+        boolean getIsAccountNonExpired();
+
+        boolean getIsAccountNonLocked();
+
+        boolean getIsCredentialsNonExpired();
+
+        boolean getIsEnabled();
+
+        float getScore();
+    }
+
+    interface CollectionVersion {
+        LocalDateTime getLastUpdatedAt();
+
+        long getCount();
+    }
 }
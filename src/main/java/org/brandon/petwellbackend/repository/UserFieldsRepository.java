@@ -0,0 +1,20 @@
+package org.brandon.petwellbackend.repository;
+
+import org.brandon.petwellbackend.enums.UserField;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Sparse-fieldset reads of users. Only the columns behind the requested fields are selected, and
+ * {@code roles} is only joined when the role is requested. Each user comes back as a map from the
+ * JSON name of a field to its value, in iteration order of the requested fields.
+ */
+public interface UserFieldsRepository {
+
+    List<Map<String, Object>> findAllUserFields(Set<UserField> fields);
+
+    Optional<Map<String, Object>> findUserFieldsByUserID(String userID, Set<UserField> fields);
+}
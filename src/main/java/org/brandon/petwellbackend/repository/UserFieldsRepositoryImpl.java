@@ -0,0 +1,71 @@
+package org.brandon.petwellbackend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.enums.RoleType;
+import org.brandon.petwellbackend.enums.UserField;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Builds one Criteria tuple query per call, selecting only the requested attributes.
+ */
+@RequiredArgsConstructor
+class UserFieldsRepositoryImpl implements UserFieldsRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findAllUserFields(Set<UserField> fields) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<UserEntity> user = query.from(UserEntity.class);
+        query.multiselect(select(user, fields)).orderBy(criteriaBuilder.asc(user.get("lastname")));
+        return entityManager.createQuery(query).getResultStream()
+                .map(tuple -> toFieldMap(tuple, fields))
+                .toList();
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findUserFieldsByUserID(String userID, Set<UserField> fields) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<UserEntity> user = query.from(UserEntity.class);
+        query.multiselect(select(user, fields)).where(criteriaBuilder.equal(user.get("userID"), userID));
+        return entityManager.createQuery(query).getResultStream()
+                .findFirst()
+                .map(tuple -> toFieldMap(tuple, fields));
+    }
+
+    private static List<Selection<?>> select(Root<UserEntity> user, Set<UserField> fields) {
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (UserField field : fields) {
+            if (field == UserField.ROLE) {
+                selections.add(user.join("role", JoinType.LEFT).get(field.getAttribute()).alias(field.getJsonName()));
+            } else {
+                selections.add(user.get(field.getAttribute()).alias(field.getJsonName()));
+            }
+        }
+        return selections;
+    }
+
+    private static Map<String, Object> toFieldMap(Tuple tuple, Set<UserField> fields) {
+        Map<String, Object> fieldMap = new LinkedHashMap<>();
+        for (UserField field : fields) {
+            Object value = tuple.get(field.getJsonName());
+            fieldMap.put(field.getJsonName(), value instanceof RoleType roleType ? roleType.getName() : value);
+        }
+        return fieldMap;
+    }
+}
@@ -0,0 +1,91 @@
+package org.brandon.petwellbackend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.enums.RoleType;
+import org.brandon.petwellbackend.payload.UserStats;
+import org.brandon.petwellbackend.payload.UserStats.DailyRegistrations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the user statistics from the materialized views defined in {@code schema.sql}. Reading them
+ * costs the same however many users there are; the aggregation itself only runs on
+ * {@link #refresh()}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserStatsRepository {
+    private static final List<String> VIEWS = List.of("user_account_stats", "user_role_stats", "user_registration_stats");
+
+    /**
+     * Advisory lock key, so that only one instance refreshes at a time.
+     */
+    private static final long REFRESH_LOCK_KEY = 0x7573657273746174L;
+
+    private static final String SELECT_ACCOUNT_STATS = """
+            SELECT total_users, enabled_users, locked_users, refreshed_at
+            FROM user_account_stats
+            """;
+
+    private static final String SELECT_ROLE_STATS = """
+            SELECT role_type, user_count
+            FROM user_role_stats
+            """;
+
+    private static final String SELECT_REGISTRATION_STATS = """
+            SELECT day, registrations
+            FROM user_registration_stats
+            WHERE day >= ?
+            ORDER BY day
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Refreshes every view concurrently, so readers keep seeing the previous contents until the new
+     * ones are in place.
+     *
+     * @return false if another instance is refreshing already
+     */
+    @Transactional
+    public boolean refresh() {
+        Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, REFRESH_LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) {
+            return false;
+        }
+        for (String view : VIEWS) {
+            jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY " + view);
+        }
+        return true;
+    }
+
+    /**
+     * @return the statistics as of the last refresh, with registrations from {@code since} onwards
+     */
+    public UserStats findStats(LocalDate since) {
+        Map<RoleType, Long> usersByRole = new EnumMap<>(RoleType.class);
+        for (RoleType roleType : RoleType.values()) {
+            usersByRole.put(roleType, 0L);
+        }
+        jdbcTemplate.query(SELECT_ROLE_STATS, rs -> {
+            usersByRole.put(RoleType.valueOf(rs.getString("role_type")), rs.getLong("user_count"));
+        });
+        List<DailyRegistrations> registrations = jdbcTemplate.query(SELECT_REGISTRATION_STATS,
+                (rs, _) -> new DailyRegistrations(rs.getObject("day", LocalDate.class), rs.getLong("registrations")),
+                since);
+        return jdbcTemplate.queryForObject(SELECT_ACCOUNT_STATS, (rs, _) -> new UserStats(
+                rs.getLong("total_users"),
+                rs.getLong("enabled_users"),
+                rs.getLong("locked_users"),
+                usersByRole,
+                registrations,
+                rs.getObject("refreshed_at", OffsetDateTime.class).toInstant()));
+    }
+}
@@ -0,0 +1,91 @@
+package org.brandon.petwellbackend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.brandon.petwellbackend.exception.ServiceOverloadedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caps how many password hashes run at once. Callers wait in a short, bounded queue for a permit
+ * and are rejected with {@link ServiceOverloadedException} when the queue is full or the wait times
+ * out, so a login burst cannot occupy every request thread with hashing.
+ */
+public class AdmissionControlledPasswordEncoder implements PasswordEncoder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdmissionControlledPasswordEncoder.class);
+
+    private final PasswordEncoder delegate;
+    private final Semaphore permits;
+    private final int maxQueueDepth;
+    private final Duration queueTimeout;
+    private final Duration retryAfter;
+    private final Counter rejections;
+
+    public AdmissionControlledPasswordEncoder(PasswordEncoder delegate, int maxConcurrent, int maxQueueDepth,
+                                              Duration queueTimeout, Duration retryAfter, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxQueueDepth = maxQueueDepth;
+        this.queueTimeout = queueTimeout;
+        this.retryAfter = retryAfter;
+        this.rejections = Counter.builder("petwell.password.hashing.rejected")
+                .description("Password hashing requests rejected by admission control")
+                .register(meterRegistry);
+        Gauge.builder("petwell.password.hashing.queue.depth", permits, Semaphore::getQueueLength)
+                .description("Password hashing requests waiting for a permit")
+                .register(meterRegistry);
+        Gauge.builder("petwell.password.hashing.active", permits, p -> maxConcurrent - p.availablePermits())
+                .description("Password hashing requests currently running")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return admit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return admit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T admit(Supplier<T> hashing) {
+        if (!tryAcquire()) {
+            rejections.increment();
+            LOGGER.warn("Rejected password hashing request, {} already waiting", permits.getQueueLength());
+            throw new ServiceOverloadedException("Service temporarily overloaded", retryAfter);
+        }
+        try {
+            return hashing.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (permits.getQueueLength() >= maxQueueDepth) {
+            return false;
+        }
+        try {
+            return permits.tryAcquire(queueTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.brandon.petwellbackend.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,28 +12,36 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 @Configuration
 @RequiredArgsConstructor
 public class AuthConfig {
     private static final int STRENGTH = 12;
+    private static final int MAX_CONCURRENT_HASHES = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final int MAX_QUEUED_HASHES = MAX_CONCURRENT_HASHES * 4;
+    private static final Duration HASH_QUEUE_TIMEOUT = Duration.ofMillis(250);
+    private static final Duration HASH_RETRY_AFTER = Duration.ofSeconds(1);
 
     private final CustomUserDetailsService customUserDetailsService;
 
     @Bean
-    AuthenticationProvider authenticationProvider() {
+    AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(customUserDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
     @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
     AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
         return config.getAuthenticationManager();
     }
 
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(STRENGTH);
+    PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new AdmissionControlledPasswordEncoder(new BCryptPasswordEncoder(STRENGTH), MAX_CONCURRENT_HASHES,
+                MAX_QUEUED_HASHES, HASH_QUEUE_TIMEOUT, HASH_RETRY_AFTER, meterRegistry);
     }
 }
@@ -1,12 +1,18 @@
 package org.brandon.petwellbackend.security;
 
+import com.google.common.hash.HashCode;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.brandon.petwellbackend.cache.CacheStore;
+import org.brandon.petwellbackend.audit.AuditEventPublisher;
+import org.brandon.petwellbackend.cache.CacheInvalidationBus;
 import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.enums.AuditEventType;
 import org.brandon.petwellbackend.repository.UserEntityRepository;
 import org.brandon.petwellbackend.service.JwtService;
+import org.brandon.petwellbackend.service.RefreshTokenService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
@@ -14,6 +20,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
 import org.springframework.stereotype.Component;
+import org.springframework.web.util.WebUtils;
+
+import static org.brandon.petwellbackend.service.impl.JwtServiceImpl.REFRESH_TOKEN_COOKIE;
 
 @Component
 @RequiredArgsConstructor
@@ -22,33 +31,50 @@ public class CustomLogoutHandler implements LogoutHandler {
 
     private final JwtService jwtService;
     private final UserEntityRepository userEntityRepository;
-    private final CacheStore<String, String> tokenCache;
+    private final RefreshTokenService refreshTokenService;
+    private final AuditEventPublisher auditEventPublisher;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RevocationJournal revocationJournal;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     @Override
     public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
-        LOGGER.info("Started logout request...");
+        LOGGER.debug("Started logout request...");
+        revokeRefreshToken(request, response);
         String authHeader = extractAuthorizationHeader(request);
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             LOGGER.warn("Invalid or missing Authorization header");
             return;
         }
         String accessToken = extractTokenFromAuthHeader(authHeader);
-        String email = getUserEmailFromToken(accessToken);
-        UserEntity loggedInUserEntity = getUserByEmail(email);
+        Claims claims = getClaimsFromToken(accessToken);
+        UserEntity loggedInUserEntity = getUserByEmail(claims.getSubject());
         if (loggedInUserEntity == null) {
             LOGGER.warn("The username extracted from the token is not valid.");
             return;
         }
-        blacklistToken(accessToken, loggedInUserEntity);
+        revokeAccessToken(loggedInUserEntity.getEmail(), claims, accessToken);
+        auditEventPublisher.publish(AuditEventType.LOGOUT, loggedInUserEntity.getEmail(),
+                loggedInUserEntity.getUserID(), request.getRemoteAddr());
         clearSecurityContext();
     }
 
+    private void revokeRefreshToken(HttpServletRequest request, HttpServletResponse response) {
+        Cookie refreshTokenCookie = WebUtils.getCookie(request, REFRESH_TOKEN_COOKIE);
+        if (refreshTokenCookie != null) {
+            refreshTokenService.revokeRefreshToken(refreshTokenCookie.getValue());
+            jwtService.clearRefreshTokenCookie(response);
+        }
+    }
+
     private static String extractTokenFromAuthHeader(String authHeader) {
         return authHeader.substring(7);
     }
 
-    private void blacklistToken(String accessToken, UserEntity userEntity) {
-        tokenCache.put("token_" + userEntity.getEmail(), accessToken);
+    private void revokeAccessToken(String email, Claims claims, String accessToken) {
+        HashCode tokenDigest = revocationJournal.revoke(claims, accessToken);
+        verifiedTokenCache.evict(accessToken);
+        cacheInvalidationBus.publishTokenRevoked(email, tokenDigest, claims.getExpiration().toInstant().getEpochSecond());
     }
 
     private UserEntity getUserByEmail(String email) {
@@ -59,9 +85,9 @@ public class CustomLogoutHandler implements LogoutHandler {
         SecurityContextHolder.clearContext();
     }
 
-    private String getUserEmailFromToken(String accessToken) {
-        LOGGER.info("Extracting user email from token");
-        return jwtService.extractUsername(accessToken);
+    private Claims getClaimsFromToken(String accessToken) {
+        LOGGER.debug("Extracting claims from token");
+        return jwtService.extractClaim(accessToken);
     }
 
     private static String extractAuthorizationHeader(HttpServletRequest request) {
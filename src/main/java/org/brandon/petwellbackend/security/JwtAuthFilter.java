@@ -1,105 +1,140 @@
 package org.brandon.petwellbackend.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.brandon.petwellbackend.cache.CacheStore;
 import org.brandon.petwellbackend.entity.UserEntity;
 import org.brandon.petwellbackend.exception.ApplicationException;
+import org.brandon.petwellbackend.logging.AccessLogFilter;
 import org.brandon.petwellbackend.repository.UserEntityRepository;
+import org.brandon.petwellbackend.security.VerifiedTokenCache.VerifiedToken;
 import org.brandon.petwellbackend.service.JwtService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 
 import java.io.IOException;
-import java.util.Optional;
 
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Component
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
     private static final Logger LOGGER = LoggerFactory.getLogger(JwtAuthFilter.class);
 
-    private final UserDetailsService userDetailsService;
+    private static final RequestMatcher AUTHENTICATED_REQUEST_MATCHER = new OrRequestMatcher(
+            new AntPathRequestMatcher("/api/v1/users/**"),
+            new AntPathRequestMatcher("/api/v1/audit/**"));
+    private static final WebAuthenticationDetailsSource AUTHENTICATION_DETAILS_SOURCE = new WebAuthenticationDetailsSource();
+
     private final UserEntityRepository userEntityRepository;
     private final HandlerExceptionResolver handlerExceptionResolver;
     private final JwtService jwtService;
-    private final CacheStore<String, String> tokenCache;
+    private final TokenVersionService tokenVersionService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RevocationJournal revocationJournal;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) {
-        LOGGER.info("Started jwt request filtering...");
+        LOGGER.debug("Started jwt request filtering...");
         if (!isMatchingRequestUrl(request)) {
             continueFilterChain(request, response, filterChain);
             return;
         }
         try {
             String accessToken = extractTokenFromHeader(request);
-            String email = extractUsernameFromToken(accessToken);
-            Optional<UserEntity> foundUser = userEntityRepository.findByEmail(email);
-            if (foundUser.isEmpty()) {
-                LOGGER.warn("User {} not found", email);
-                throw new ApplicationException(HttpStatus.UNAUTHORIZED, "Not authorized");
-            }
             if (isSecurityContextHolderNull()) {
-                authenticateRequest(accessToken, foundUser.get(), request);
+                authenticateRequest(accessToken, request);
             }
             continueFilterChain(request, response, filterChain);
         } catch (Exception ex) {
-            LOGGER.error("Exception while authenticating request: {}", ex.getMessage());
+            if (isClientError(ex)) {
+                LOGGER.debug("Rejected request: {}", ex.getMessage());
+            } else {
+                LOGGER.error("Exception while authenticating request: {}", ex.getMessage());
+            }
             handlerExceptionResolver.resolveException(request, response, null, ex);
         }
     }
 
-    private String extractUsernameFromToken(String accessToken) {
-        return jwtService.extractUsername(accessToken);
+    /**
+     * Missing, invalid and revoked tokens are expected, mostly from scanners. Their cause is logged
+     * at WARN where they are rejected, or by the exception handler.
+     */
+    private static boolean isClientError(Exception ex) {
+        return ex instanceof JwtException
+                || ex instanceof ApplicationException applicationException && applicationException.getHttpStatus().is4xxClientError();
     }
 
-    private boolean isTokenValid(String accessToken, UserDetails userDetails, UserEntity userEntity) {
-        return jwtService.isTokenValid(accessToken, userDetails) && !isTokenBlacklisted(userEntity, accessToken);
+    /**
+     * Authenticates with a recently verified token straight from {@link VerifiedTokenCache}, without
+     * checking the signature or parsing the claims again. Only the token generation is compared on
+     * every request, so that revoking all sessions of a user also applies to cached tokens. With both
+     * cached, the request neither touches the database nor enters a transaction.
+     */
+    private void authenticateRequest(String accessToken, HttpServletRequest request) {
+        VerifiedToken verifiedToken = verifiedTokenCache.get(accessToken);
+        if (verifiedToken == null) {
+            verifiedToken = verifyToken(accessToken);
+            verifiedTokenCache.put(accessToken, verifiedToken);
+        }
+        if (!isTokenVersionCurrent(verifiedToken)) {
+            verifiedTokenCache.evict(accessToken);
+            throw new ApplicationException(HttpStatus.UNAUTHORIZED, "Not authorized");
+        }
+        setSecurityContextHolder(verifiedToken.userDetails(), request);
     }
 
-    private UserDetails retrieveUserDetailsByEmail(String email) {
-        return userDetailsService.loadUserByUsername(email);
+    private VerifiedToken verifyToken(String accessToken) {
+        Claims claims = jwtService.extractClaim(accessToken);
+        String email = claims.getSubject();
+        UserEntity userEntity = userEntityRepository.findByEmail(email).orElseThrow(() -> {
+            LOGGER.warn("User {} not found", email);
+            return new ApplicationException(HttpStatus.UNAUTHORIZED, "Not authorized");
+        });
+        if (!jwtService.isTokenValid(claims, userEntity) || isTokenRevoked(claims, accessToken)) {
+            LOGGER.warn("Failed to authenticate request");
+            throw new ApplicationException(HttpStatus.UNAUTHORIZED, "Not authorized");
+        }
+        return new VerifiedToken(userEntity, jwtService.extractTokenVersion(claims), claims.getExpiration().toInstant());
     }
 
-    private boolean isMatchingRequestUrl(HttpServletRequest request) {
-        final RequestMatcher userRequestMatcher = new AntPathRequestMatcher("/api/v1/users/**");
-        return userRequestMatcher.matches(request);
+    private boolean isTokenVersionCurrent(VerifiedToken verifiedToken) {
+        boolean isCurrent = verifiedToken.tokenVersion() == tokenVersionService.getTokenVersion(verifiedToken.userDetails().getUsername());
+        if (!isCurrent) {
+            LOGGER.warn("Access Token validation failed - token generation revoked");
+        }
+        return isCurrent;
     }
 
-    private boolean isTokenBlacklisted(UserEntity userEntity, String accessToken) {
-        String cachedToken = tokenCache.get("token_" + userEntity.getEmail());
-        boolean isTokenOnBlacklist = cachedToken != null && cachedToken.equals(accessToken);
-        if (isTokenOnBlacklist) {
-            LOGGER.warn("Access Token validation failed - token blacklisted");
-        } else {
-            LOGGER.info("Access token validation successful - token not blacklisted");
-        }
-        return isTokenOnBlacklist;
+    private static boolean isMatchingRequestUrl(HttpServletRequest request) {
+        return AUTHENTICATED_REQUEST_MATCHER.matches(request);
     }
 
-    private void authenticateRequest(String accessToken, UserEntity userEntity, HttpServletRequest request) {
-        UserDetails userDetails = retrieveUserDetailsByEmail(userEntity.getEmail());
-        if (!isTokenValid(accessToken, userDetails, userEntity)) {
-            LOGGER.warn("Failed to authenticate request");
-            throw new ApplicationException(HttpStatus.UNAUTHORIZED, "Not authorized");
+    private boolean isTokenRevoked(Claims claims, String accessToken) {
+        boolean isRevoked = revocationJournal.isRevoked(claims, accessToken);
+        if (isRevoked) {
+            LOGGER.warn("Access Token validation failed - token revoked");
+        } else {
+            LOGGER.debug("Access token validation successful - token not revoked");
         }
-        setSecurityContextHolder(userDetails, request);
+        return isRevoked;
     }
 
     private static boolean isAuthHeaderMissingOrInvalid(String authHeader) {
@@ -126,8 +161,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private static void setSecurityContextHolder(UserDetails userDetails, HttpServletRequest request) {
         var authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        authToken.setDetails(AUTHENTICATION_DETAILS_SOURCE.buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authToken);
+        request.setAttribute(AccessLogFilter.PRINCIPAL_ATTRIBUTE, userDetails.getUsername());
     }
 
     private static void continueFilterChain(HttpServletRequest req, HttpServletResponse res, FilterChain chain) {
@@ -1,13 +1,18 @@
 package org.brandon.petwellbackend.security;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Setter
 @Getter
 @Validated
@@ -20,4 +25,59 @@ public class JwtConfig {
 
     @NotNull
     private long tokenExpiration;
+
+    @NotNull
+    private long refreshTokenExpiration;
+
+    /**
+     * Key id used to sign new tokens. When empty, tokens are signed with {@code secretKey} and no
+     * {@code kid} header, exactly as before key rotation was supported.
+     */
+    private String activeKeyId;
+
+    /**
+     * Domain of the token cookies. When empty, the cookies are only sent back to the host that set
+     * them.
+     */
+    private String cookieDomain;
+
+    /**
+     * Whether the token cookies are only sent over HTTPS. Only local development over plain HTTP
+     * should turn this off.
+     */
+    private boolean cookieSecure = true;
+
+    @Valid
+    private List<KeyDefinition> keys = new ArrayList<>();
+
+    @Setter
+    @Getter
+    public static class KeyDefinition {
+        @NotBlank
+        private String id;
+
+        @NotNull
+        private KeyAlgorithm algorithm;
+
+        /**
+         * Base64 encoded secret, HS256 only.
+         */
+        private String secret;
+
+        /**
+         * PKCS#8 PEM file, ES256 and EdDSA only. Verify-only keys may omit it.
+         */
+        private Resource privateKey;
+
+        /**
+         * X.509 PEM file, ES256 and EdDSA only.
+         */
+        private Resource publicKey;
+    }
+
+    public enum KeyAlgorithm {
+        HS256,
+        ES256,
+        EDDSA
+    }
 }
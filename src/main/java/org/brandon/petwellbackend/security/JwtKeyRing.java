@@ -0,0 +1,167 @@
+package org.brandon.petwellbackend.security;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import org.brandon.petwellbackend.security.JwtConfig.KeyAlgorithm;
+import org.brandon.petwellbackend.security.JwtConfig.KeyDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds every key a token may be signed or verified with, indexed by {@code kid}. All keys are
+ * decoded once at startup, so verifying a token costs a single map lookup for its key regardless
+ * of how many keys are active during a rotation.
+ */
+@Component
+public class JwtKeyRing {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private final SecretKey legacyKey;
+    private final Map<String, Key> verificationKeys;
+    private final Map<String, PublicKey> publicKeys;
+    private final SigningKey signingKey;
+    private final JwtParser parser;
+
+    public JwtKeyRing(JwtConfig jwtConfig) {
+        this.legacyKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtConfig.getSecretKey()));
+        Map<String, Key> verification = new HashMap<>();
+        Map<String, PublicKey> published = new HashMap<>();
+        Map<String, SigningKey> signing = new HashMap<>();
+        for (KeyDefinition definition : jwtConfig.getKeys()) {
+            loadKey(definition, verification, published, signing);
+        }
+        this.verificationKeys = Map.copyOf(verification);
+        this.publicKeys = Map.copyOf(published);
+        this.signingKey = resolveSigningKey(jwtConfig.getActiveKeyId(), signing);
+        this.parser = Jwts.parser()
+                .keyLocator(header -> locateKey(header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null))
+                .build();
+        LOGGER.info("Loaded {} verification key(s), signing with key id '{}'",
+                verificationKeys.size(), signingKey.id() == null ? "legacy" : signingKey.id());
+    }
+
+    public JwtParser getParser() {
+        return parser;
+    }
+
+    public JwtBuilder sign(JwtBuilder builder) {
+        if (signingKey.id() != null) {
+            builder = builder.header().keyId(signingKey.id()).and();
+        }
+        return switch (signingKey.algorithm()) {
+            case HS256 -> builder.signWith((SecretKey) signingKey.key(), Jwts.SIG.HS256);
+            case ES256 -> builder.signWith((PrivateKey) signingKey.key(), Jwts.SIG.ES256);
+            case EDDSA -> builder.signWith((PrivateKey) signingKey.key(), Jwts.SIG.EdDSA);
+        };
+    }
+
+    /**
+     * Public keys in JWK Set form, so other services can verify asymmetric tokens without the secret.
+     */
+    public Map<String, ?> getPublicJwkSet() {
+        List<?> jwks = publicKeys.entrySet().stream()
+                .map(entry -> Jwks.builder().key(entry.getValue()).id(entry.getKey()).build())
+                .toList();
+        return Map.of("keys", jwks);
+    }
+
+    private Key locateKey(String keyId) {
+        if (keyId == null) {
+            return legacyKey;
+        }
+        Key key = verificationKeys.get(keyId);
+        if (key == null) {
+            throw new InvalidKeyException("Unknown key id: " + keyId);
+        }
+        return key;
+    }
+
+    private SigningKey resolveSigningKey(String activeKeyId, Map<String, SigningKey> signing) {
+        if (activeKeyId == null || activeKeyId.isBlank()) {
+            return new SigningKey(null, KeyAlgorithm.HS256, legacyKey);
+        }
+        SigningKey key = signing.get(activeKeyId);
+        if (key == null) {
+            throw new IllegalStateException("Active key id '" + activeKeyId + "' has no signing key configured");
+        }
+        return key;
+    }
+
+    private static void loadKey(KeyDefinition definition, Map<String, Key> verification,
+                                Map<String, PublicKey> published, Map<String, SigningKey> signing) {
+        String id = definition.getId();
+        if (verification.containsKey(id)) {
+            throw new IllegalStateException("Duplicate key id: " + id);
+        }
+        KeyAlgorithm algorithm = definition.getAlgorithm();
+        if (algorithm == KeyAlgorithm.HS256) {
+            SecretKey secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(definition.getSecret()));
+            verification.put(id, secretKey);
+            signing.put(id, new SigningKey(id, algorithm, secretKey));
+            return;
+        }
+        String keyFactoryAlgorithm = algorithm == KeyAlgorithm.ES256 ? "EC" : "Ed25519";
+        PublicKey publicKey = readPublicKey(definition.getPublicKey(), keyFactoryAlgorithm);
+        verification.put(id, publicKey);
+        published.put(id, publicKey);
+        if (definition.getPrivateKey() != null) {
+            signing.put(id, new SigningKey(id, algorithm, readPrivateKey(definition.getPrivateKey(), keyFactoryAlgorithm)));
+        }
+    }
+
+    private static PublicKey readPublicKey(Resource resource, String algorithm) {
+        try {
+            return KeyFactory.getInstance(algorithm).generatePublic(new X509EncodedKeySpec(readPem(resource)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid public key: " + resource, e);
+        }
+    }
+
+    private static PrivateKey readPrivateKey(Resource resource, String algorithm) {
+        try {
+            return KeyFactory.getInstance(algorithm).generatePrivate(new PKCS8EncodedKeySpec(readPem(resource)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid private key: " + resource, e);
+        }
+    }
+
+    private static byte[] readPem(Resource resource) {
+        if (resource == null) {
+            throw new IllegalStateException("Missing key file");
+        }
+        try {
+            String pem = resource.getContentAsString(StandardCharsets.US_ASCII)
+                    .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                    .replaceAll("\\s", "");
+            return Base64.getDecoder().decode(pem);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read key file: " + resource, e);
+        }
+    }
+
+    private record SigningKey(String id, KeyAlgorithm algorithm, Key key) {
+    }
+}
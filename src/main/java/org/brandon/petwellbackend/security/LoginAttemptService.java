@@ -0,0 +1,111 @@
+package org.brandon.petwellbackend.security;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks failed logins per account and per source address so that repeated failures are rejected
+ * before any password hashing happens. Each failure past the threshold locks for twice as long as
+ * the previous one, up to {@link #MAX_LOCKOUT}. Emails are lowercased on the way in, so the tracked
+ * attempts and the persisted lock always refer to the same account.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginAttemptService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoginAttemptService.class);
+
+    private static final int ACCOUNT_THRESHOLD = 5;
+    private static final int SOURCE_THRESHOLD = 20;
+    private static final Duration BASE_LOCKOUT = Duration.ofSeconds(30);
+    private static final Duration MAX_LOCKOUT = Duration.ofMinutes(15);
+    private static final int MAX_TRACKED_KEYS = 100_000;
+
+    private final UserService userService;
+    private final TaskScheduler taskScheduler;
+
+    private final Cache<String, Attempts> attempts = CacheBuilder.newBuilder()
+            .maximumSize(MAX_TRACKED_KEYS)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+            .build();
+
+    /**
+     * @return how long the account or source is still locked out, {@link Duration#ZERO} if it is not
+     */
+    public Duration getRemainingLockout(String email, String source) {
+        Instant now = Instant.now();
+        Duration account = remaining(attempts.getIfPresent(accountKey(normalize(email))), now);
+        Duration address = remaining(attempts.getIfPresent(sourceKey(source)), now);
+        return account.compareTo(address) >= 0 ? account : address;
+    }
+
+    public void loginFailed(String submittedEmail, String source) {
+        String email = normalize(submittedEmail);
+        Instant now = Instant.now();
+        Attempts account = recordFailure(accountKey(email), ACCOUNT_THRESHOLD, now);
+        recordFailure(sourceKey(source), SOURCE_THRESHOLD, now);
+        if (account.lockedUntil() != null) {
+            LOGGER.warn("Locking account {} until {} after {} failed logins", email, account.lockedUntil(), account.failures());
+            userService.lockAccount(email, account.lockedUntil());
+            taskScheduler.schedule(() -> releaseExpiredLock(email), account.lockedUntil());
+        }
+    }
+
+    public void loginSucceeded(String email) {
+        attempts.invalidate(accountKey(normalize(email)));
+    }
+
+    /**
+     * Clears the persisted lock of an account once its expiry has passed. The expiry is stored with the
+     * lock, so this is safe to call from any instance, including one that never saw the failures or
+     * lost its scheduled unlock to a restart.
+     */
+    public void releaseExpiredLock(String email) {
+        userService.releaseExpiredAccountLock(normalize(email));
+    }
+
+    private Attempts recordFailure(String key, int threshold, Instant now) {
+        return attempts.asMap().compute(key, (_, previous) -> {
+            int failures = previous == null ? 1 : previous.failures() + 1;
+            return new Attempts(failures, failures >= threshold ? now.plus(lockoutFor(failures - threshold)) : null);
+        });
+    }
+
+    private static Duration lockoutFor(int failuresPastThreshold) {
+        Duration lockout = BASE_LOCKOUT.multipliedBy(1L << Math.min(failuresPastThreshold, 16));
+        return lockout.compareTo(MAX_LOCKOUT) > 0 ? MAX_LOCKOUT : lockout;
+    }
+
+    private static Duration remaining(Attempts attempts, Instant now) {
+        if (attempts == null || attempts.lockedUntil() == null || !attempts.lockedUntil().isAfter(now)) {
+            return Duration.ZERO;
+        }
+        return Duration.between(now, attempts.lockedUntil());
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.toLowerCase(Locale.ROOT);
+    }
+
+    private static String accountKey(String email) {
+        return "account:" + email;
+    }
+
+    private static String sourceKey(String source) {
+        return "source:" + source;
+    }
+
+    private record Attempts(int failures, Instant lockedUntil) {
+    }
+}
@@ -1,21 +1,32 @@
 package org.brandon.petwellbackend.security;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.brandon.petwellbackend.audit.AuditEventPublisher;
 import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.enums.AuditEventType;
 import org.brandon.petwellbackend.exception.ApplicationException;
+import org.brandon.petwellbackend.exception.ServiceOverloadedException;
+import org.brandon.petwellbackend.logging.AccessLogFilter;
 import org.brandon.petwellbackend.payload.UserLoginRequest;
 import org.brandon.petwellbackend.payload.Response;
-import org.brandon.petwellbackend.service.UserService;
+import org.brandon.petwellbackend.service.RefreshTokenService;
 import org.brandon.petwellbackend.service.JwtService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter;
@@ -23,48 +34,132 @@ import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.time.Duration;
 
 import static com.fasterxml.jackson.core.JsonParser.Feature.AUTO_CLOSE_SOURCE;
 import static org.springframework.security.authentication.UsernamePasswordAuthenticationToken.unauthenticated;
 
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Component
 public class LoginFilter extends AbstractAuthenticationProcessingFilter {
     private static final Logger LOGGER = LoggerFactory.getLogger(LoginFilter.class);
+    private static final String LOGIN_PATH = "/api/v1/auth/users/login";
 
     private final JwtService jwtService;
-    private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginAttemptService loginAttemptService;
+    private final AuditEventPublisher auditEventPublisher;
+    private final RateLimiter rateLimiter;
+    private final ObjectReader loginRequestReader;
+    private final ObjectWriter responseWriter;
+    private final byte[] successBody;
 
-    public LoginFilter(AuthenticationManager authenticationManager, JwtService jwtService, UserService userService) {
-        super(new AntPathRequestMatcher("/api/v1/auth/users/login", HttpMethod.POST.name()), authenticationManager);
+    public LoginFilter(AuthenticationManager authenticationManager, JwtService jwtService,
+                       RefreshTokenService refreshTokenService, LoginAttemptService loginAttemptService,
+                       AuditEventPublisher auditEventPublisher, RateLimiter rateLimiter,
+                       ObjectMapper objectMapper) throws JsonProcessingException {
+        super(new AntPathRequestMatcher(LOGIN_PATH, HttpMethod.POST.name()), authenticationManager);
         this.jwtService = jwtService;
-        this.userService = userService;
+        this.refreshTokenService = refreshTokenService;
+        this.loginAttemptService = loginAttemptService;
+        this.auditEventPublisher = auditEventPublisher;
+        this.rateLimiter = rateLimiter;
+        this.loginRequestReader = objectMapper.readerFor(UserLoginRequest.class).withFeatures(AUTO_CLOSE_SOURCE);
+        this.responseWriter = objectMapper.writerFor(Response.class);
+        this.successBody = responseWriter.writeValueAsBytes(Response.success(null, HttpStatus.OK));
     }
 
+    /**
+     * Authenticates with the submitted credentials. The user is loaded exactly once, by the
+     * authentication provider, which also verifies the password. Accounts and addresses that are
+     * locked out after repeated failures are rejected before the password is hashed. Logins never
+     * reach the MVC rate-limit interceptor, so the login route's policy is applied here.
+     */
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
+        Duration retryAfter = rateLimiter.tryConsume(request.getMethod(), LOGIN_PATH, null, request.getRemoteAddr());
+        if (!retryAfter.isZero()) {
+            handleTooManyRequestsResponse(request, response, retryAfter, "Rate limit exceeded.");
+            return null;
+        }
+        UserLoginRequest userLoginRequest;
+        try {
+            userLoginRequest = loginRequestReader.readValue(request.getInputStream());
+        } catch (IOException e) {
+            LOGGER.warn("Malformed login request from {}: {}", request.getRemoteAddr(), e.getMessage());
+            handleErrorResponse(request, response, HttpStatus.BAD_REQUEST, "Malformed login request");
+            return null;
+        }
+        if (userLoginRequest == null || userLoginRequest.email() == null || userLoginRequest.password() == null) {
+            LOGGER.warn("Login request from {} without credentials", request.getRemoteAddr());
+            handleErrorResponse(request, response, HttpStatus.BAD_REQUEST, "Malformed login request");
+            return null;
+        }
         try {
-            UserLoginRequest userLoginRequest = new ObjectMapper().configure(AUTO_CLOSE_SOURCE, true).readValue(request.getInputStream(), UserLoginRequest.class);
-            UserEntity userEntityByEmail = getUserByEmail(userLoginRequest);
-            return getAuthenticationManager().authenticate(unauthenticated(userEntityByEmail.getEmail(), userEntityByEmail.getPassword()));
+            Duration lockout = loginAttemptService.getRemainingLockout(userLoginRequest.email(), request.getRemoteAddr());
+            if (!lockout.isZero()) {
+                LOGGER.warn("Rejected login for {} from {}, locked out for {}", userLoginRequest.email(), request.getRemoteAddr(), lockout);
+                handleTooManyRequestsResponse(request, response, lockout, "Too many failed login attempts");
+                return null;
+            }
+            Authentication authentication = getAuthenticationManager()
+                    .authenticate(unauthenticated(userLoginRequest.email(), userLoginRequest.password()));
+            loginAttemptService.loginSucceeded(userLoginRequest.email());
+            return authentication;
         } catch (Exception e) {
-            LOGGER.error(e.getMessage(), e);
-            handleFailureResponse(request, response);
+            ServiceOverloadedException overloaded = findOverloadedCause(e);
+            if (overloaded != null) {
+                handleOverloadedResponse(request, response, overloaded);
+                return null;
+            }
+            if (e instanceof AuthenticationException) {
+                LOGGER.warn("Login failed: {}", e.getMessage());
+            } else {
+                LOGGER.error(e.getMessage(), e);
+            }
+            recordFailedAttempt(e, userLoginRequest.email(), request.getRemoteAddr());
+            handleErrorResponse(request, response, HttpStatus.UNAUTHORIZED, "Not authorized");
             return null;
         }
     }
 
+    private static ServiceOverloadedException findOverloadedCause(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ServiceOverloadedException overloaded) {
+                return overloaded;
+            }
+        }
+        return null;
+    }
+
+    private void recordFailedAttempt(Exception e, String email, String source) {
+        switch (e) {
+            case BadCredentialsException _ -> {
+                loginAttemptService.loginFailed(email, source);
+                auditEventPublisher.publish(AuditEventType.LOGIN_FAILED, email, null, source);
+            }
+            case LockedException _ -> loginAttemptService.releaseExpiredLock(email);
+            default -> {
+            }
+        }
+    }
+
     @Override
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authentication) {
         UserEntity userEntity = (UserEntity) authentication.getPrincipal();
+        request.setAttribute(AccessLogFilter.PRINCIPAL_ATTRIBUTE, userEntity.getUsername());
+        auditEventPublisher.publish(AuditEventType.LOGIN, userEntity.getUsername(), userEntity.getUserID(), request.getRemoteAddr());
         handleSuccessResponse(response, userEntity);
     }
 
     private void handleSuccessResponse(HttpServletResponse response, UserEntity userEntity) {
         try {
             jwtService.addCookie(response, userEntity);
+            jwtService.addRefreshTokenCookie(response, refreshTokenService.issueRefreshToken(userEntity));
             response.setContentType(MediaType.APPLICATION_JSON_VALUE);
             response.setStatus(HttpStatus.OK.value());
-            new ObjectMapper().writeValue(response.getOutputStream(), Response.success(null, HttpStatus.OK));
+            response.setContentLength(successBody.length);
+            response.getOutputStream().write(successBody);
             response.getOutputStream().flush();
         } catch (IOException e) {
             LOGGER.error(e.getMessage(), e);
@@ -72,12 +167,14 @@ public class LoginFilter extends AbstractAuthenticationProcessingFilter {
         }
     }
 
-    private void handleFailureResponse(HttpServletRequest request, HttpServletResponse response) {
+    private void handleTooManyRequestsResponse(HttpServletRequest request, HttpServletResponse response,
+                                               Duration retryAfter, String message) {
         try {
             response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-            response.setStatus(HttpStatus.UNAUTHORIZED.value());
-            new ObjectMapper().writeValue(response.getOutputStream(),
-                    Response.error(HttpStatus.UNAUTHORIZED, "Not authorized", null, request));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+            responseWriter.writeValue(response.getOutputStream(),
+                    Response.error(HttpStatus.TOO_MANY_REQUESTS, message, null, request));
             response.getOutputStream().flush();
         } catch (IOException e) {
             LOGGER.error(e.getMessage(), e);
@@ -85,7 +182,29 @@ public class LoginFilter extends AbstractAuthenticationProcessingFilter {
         }
     }
 
-    private UserEntity getUserByEmail(UserLoginRequest userLoginRequest) {
-        return userService.getUserByEmail(userLoginRequest.email());
+    private void handleOverloadedResponse(HttpServletRequest request, HttpServletResponse response, ServiceOverloadedException e) {
+        try {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()));
+            responseWriter.writeValue(response.getOutputStream(),
+                    Response.error(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), null, request));
+            response.getOutputStream().flush();
+        } catch (IOException ex) {
+            LOGGER.error(ex.getMessage(), ex);
+            throw new ApplicationException(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
+        }
+    }
+
+    private void handleErrorResponse(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message) {
+        try {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setStatus(status.value());
+            responseWriter.writeValue(response.getOutputStream(), Response.error(status, message, null, request));
+            response.getOutputStream().flush();
+        } catch (IOException e) {
+            LOGGER.error(e.getMessage(), e);
+            throw new ApplicationException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
     }
 }
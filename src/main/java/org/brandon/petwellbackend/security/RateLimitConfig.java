@@ -0,0 +1,77 @@
+package org.brandon.petwellbackend.security;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.brandon.petwellbackend.enums.RateLimitTier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Setter
+@Getter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitConfig {
+    private boolean enabled = true;
+
+    /**
+     * Optional YAML file with a {@code rate-limit.policies} list. When set, its policies replace the
+     * ones below and are reloaded whenever the file changes.
+     */
+    private Path policyFile;
+
+    @Valid
+    private List<Policy> policies = new ArrayList<>();
+
+    @Setter
+    @Getter
+    public static class Policy {
+        @NotBlank
+        private String name;
+
+        /**
+         * Route pattern exactly as declared on the controller, e.g. {@code /api/v1/auth/users/{user-email}}.
+         */
+        @NotBlank
+        private String path;
+
+        /**
+         * HTTP method the policy applies to; every method when unset.
+         */
+        private String method;
+
+        /**
+         * Limits per caller tier. Tiers without an entry are not limited on this route.
+         */
+        @Valid
+        private Map<RateLimitTier, Limit> limits = new EnumMap<>(RateLimitTier.class);
+    }
+
+    @Setter
+    @Getter
+    public static class Limit {
+        @Min(1)
+        private long capacity;
+
+        /**
+         * Tokens added back per refill period, defaults to the capacity.
+         */
+        @Min(0)
+        private long refillTokens;
+
+        @NotNull
+        private Duration refillPeriod = Duration.ofMinutes(1);
+    }
+}
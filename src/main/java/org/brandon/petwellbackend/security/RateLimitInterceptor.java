@@ -1,31 +1,30 @@
 package org.brandon.petwellbackend.security;
 
-import io.github.bucket4j.Bucket;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.brandon.petwellbackend.exception.RateLimitExceededException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.lang.NonNull;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
 
 @Component
 @RequiredArgsConstructor
 public class RateLimitInterceptor implements HandlerInterceptor {
-    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitInterceptor.class);
-
-    private final RateLimitBucket rateLimitBucket;
+    private final RateLimiter rateLimiter;
 
     @Override
     public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
-        Bucket bucket = rateLimitBucket.getBucket();
-        if (bucket.tryConsume(1)) {
-            return true;
-        } else {
-            LOGGER.warn("Too many requests, tokens left: {}", bucket.getAvailableTokens());
-            throw new RateLimitExceededException("Rate limit exceeded.");
+        String route = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Duration retryAfter = rateLimiter.tryConsume(request.getMethod(), route,
+                SecurityContextHolder.getContext().getAuthentication(), request.getRemoteAddr());
+        if (!retryAfter.isZero()) {
+            throw new RateLimitExceededException("Rate limit exceeded.", retryAfter);
         }
+        return true;
     }
 }
@@ -0,0 +1,190 @@
+package org.brandon.petwellbackend.security;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import org.brandon.petwellbackend.enums.RateLimitTier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the configured {@link RateLimitConfig.Policy rate-limit policies}. Policies are compiled
+ * into a route table keyed by route pattern and method, so a request costs two hash lookups plus
+ * one bucket lookup. Anonymous callers are limited per remote address, authenticated callers per
+ * user.
+ */
+@Component
+public class RateLimiter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimiter.class);
+
+    private static final String ANY_METHOD = "*";
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final int MAX_TRACKED_BUCKETS = 100_000;
+
+    private final RateLimitConfig rateLimitConfig;
+
+    private final Cache<String, Bucket> buckets = CacheBuilder.newBuilder()
+            .maximumSize(MAX_TRACKED_BUCKETS)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+            .build();
+
+    private volatile Map<String, Map<String, CompiledPolicy>> routeTable;
+    private FileTime policyFileModified;
+
+    public RateLimiter(RateLimitConfig rateLimitConfig) {
+        this.rateLimitConfig = rateLimitConfig;
+        this.routeTable = compile(rateLimitConfig.getPolicies());
+        reloadPolicies();
+    }
+
+    /**
+     * Takes one token from the caller's bucket for the given route.
+     *
+     * @param route the matched route pattern, not the request path
+     * @return how long the caller has to wait before retrying, {@link Duration#ZERO} if the request
+     * is allowed
+     */
+    public Duration tryConsume(String method, String route, Authentication authentication, String remoteAddress) {
+        if (!rateLimitConfig.isEnabled() || route == null) {
+            return Duration.ZERO;
+        }
+        Map<String, CompiledPolicy> policiesByMethod = routeTable.get(route);
+        if (policiesByMethod == null) {
+            return Duration.ZERO;
+        }
+        CompiledPolicy policy = policiesByMethod.getOrDefault(method, policiesByMethod.get(ANY_METHOD));
+        if (policy == null) {
+            return Duration.ZERO;
+        }
+        RateLimitTier tier = resolveTier(authentication);
+        Bandwidth bandwidth = policy.limits().get(tier);
+        if (bandwidth == null) {
+            return Duration.ZERO;
+        }
+        String caller = tier == RateLimitTier.ANONYMOUS ? remoteAddress : authentication.getName();
+        Bucket bucket = buckets.asMap().computeIfAbsent(policy.name() + ':' + tier + ':' + caller,
+                _ -> Bucket.builder().addLimit(bandwidth).build());
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        if (probe.isConsumed()) {
+            return Duration.ZERO;
+        }
+        LOGGER.warn("Rate limit {} exceeded by {} caller {}", policy.name(), tier, caller);
+        return Duration.ofNanos(probe.getNanosToWaitForRefill());
+    }
+
+    /**
+     * Recompiles the route table when the policy file has changed since it was last read. A file
+     * that fails to load is logged and the previous policies stay in effect.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.reload-interval:PT10S}")
+    public synchronized void reloadPolicies() {
+        Path policyFile = rateLimitConfig.getPolicyFile();
+        if (policyFile == null) {
+            return;
+        }
+        FileTime modified;
+        try {
+            modified = Files.getLastModifiedTime(policyFile);
+        } catch (NoSuchFileException e) {
+            LOGGER.debug("Rate-limit policy file {} does not exist", policyFile);
+            return;
+        } catch (IOException e) {
+            LOGGER.error(e.getMessage(), e);
+            return;
+        }
+        if (modified.equals(policyFileModified)) {
+            return;
+        }
+        policyFileModified = modified;
+        try {
+            List<RateLimitConfig.Policy> policies = loadPolicies(policyFile);
+            routeTable = compile(policies);
+            buckets.invalidateAll();
+            LOGGER.info("Loaded {} rate-limit policies from {}", policies.size(), policyFile);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Could not load rate-limit policies from {}, keeping the previous ones", policyFile, e);
+        }
+    }
+
+    private static List<RateLimitConfig.Policy> loadPolicies(Path policyFile) throws IOException {
+        var propertySources = new YamlPropertySourceLoader().load(policyFile.toString(), new FileSystemResource(policyFile));
+        return new Binder(ConfigurationPropertySources.from(propertySources))
+                .bind("rate-limit.policies", Bindable.listOf(RateLimitConfig.Policy.class))
+                .orElse(List.of());
+    }
+
+    private static Map<String, Map<String, CompiledPolicy>> compile(List<RateLimitConfig.Policy> policies) {
+        Map<String, Map<String, CompiledPolicy>> table = new HashMap<>();
+        for (RateLimitConfig.Policy policy : policies) {
+            if (policy.getName() == null || policy.getPath() == null) {
+                throw new IllegalArgumentException("Rate-limit policies need a name and a path");
+            }
+            Map<RateLimitTier, Bandwidth> limits = new EnumMap<>(RateLimitTier.class);
+            policy.getLimits().forEach((tier, limit) -> limits.put(tier, toBandwidth(policy.getName(), limit)));
+            String method = policy.getMethod() == null ? ANY_METHOD : policy.getMethod().toUpperCase();
+            CompiledPolicy previous = table.computeIfAbsent(policy.getPath(), _ -> new HashMap<>())
+                    .put(method, new CompiledPolicy(policy.getName(), limits));
+            if (previous != null) {
+                throw new IllegalArgumentException("Duplicate rate-limit policy for " + method + " " + policy.getPath());
+            }
+        }
+        return table;
+    }
+
+    private static Bandwidth toBandwidth(String policyName, RateLimitConfig.Limit limit) {
+        if (limit.getCapacity() < 1 || limit.getRefillPeriod() == null || limit.getRefillPeriod().isNegative()
+                || limit.getRefillPeriod().isZero()) {
+            throw new IllegalArgumentException("Invalid limit in rate-limit policy " + policyName);
+        }
+        long refillTokens = limit.getRefillTokens() > 0 ? limit.getRefillTokens() : limit.getCapacity();
+        return Bandwidth.builder()
+                .capacity(limit.getCapacity())
+                .refillGreedy(refillTokens, limit.getRefillPeriod())
+                .build();
+    }
+
+    private static RateLimitTier resolveTier(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return RateLimitTier.ANONYMOUS;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name != null && name.startsWith(ROLE_PREFIX)) {
+                try {
+                    return RateLimitTier.valueOf(name.substring(ROLE_PREFIX.length()));
+                } catch (IllegalArgumentException e) {
+                    LOGGER.debug("No rate-limit tier for {}", name);
+                }
+            }
+        }
+        return RateLimitTier.ANONYMOUS;
+    }
+
+    private record CompiledPolicy(String name, Map<RateLimitTier, Bandwidth> limits) {
+    }
+}
@@ -0,0 +1,315 @@
+package org.brandon.petwellbackend.security;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Revoked access tokens, kept in memory for lookups and appended to a memory-mapped journal file so
+ * that revocations survive restarts. Each record is the SHA-256 digest of the token ID followed by
+ * the token's expiry in epoch seconds; a record with expiry 0 marks the end of the journal.
+ * <p>
+ * Appending only copies 40 bytes into the mapped file. The mapping is forced to disk by
+ * {@link #flush()} on a short fixed delay, so all revocations of that interval share one sync and
+ * logout never waits for the disk. A process crash loses nothing, since the written pages belong to
+ * the OS; a machine crash can lose the last interval. On startup the journal is replayed before any
+ * request is served and then compacted, dropping expired records. Flushing and compaction run on
+ * the journal's own thread; compaction starts once the file is three quarters full, and a record
+ * that arrives while the file is full stays in memory until the compaction rewrites it.
+ * <p>
+ * The journal belongs to one process: a lock file next to it is held while it is open, and a second
+ * instance pointed at the same path fails on startup. Each instance therefore keeps its own journal
+ * and other instances learn about a revocation through
+ * {@link org.brandon.petwellbackend.cache.CacheInvalidationBus}, which journals it locally as well.
+ * That relay is best effort: an instance that is down or disconnected while a token is revoked
+ * elsewhere keeps accepting that token until it expires.
+ */
+@Component
+public class RevocationJournal {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RevocationJournal.class);
+
+    private static final int MAGIC = 0x50574A31;
+    private static final int HEADER_SIZE = 8;
+    private static final int DIGEST_SIZE = 32;
+    static final int RECORD_SIZE = DIGEST_SIZE + Long.BYTES;
+
+    private final Path path;
+    private final int minimumCapacity;
+    private final Map<HashCode, Long> revoked = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private final FileChannel lockChannel;
+    private final ScheduledExecutorService executor;
+
+    private FileChannel channel;
+    private volatile MappedByteBuffer journal;
+    private int writePosition;
+    private volatile boolean dirty;
+    private boolean unpersisted;
+    private boolean compactionPending;
+    private boolean closed;
+
+    public RevocationJournal(RevocationJournalConfig revocationJournalConfig) {
+        this.path = revocationJournalConfig.getPath().toAbsolutePath();
+        this.minimumCapacity = revocationJournalConfig.getCapacity();
+        this.lockChannel = lockJournal(path);
+        synchronized (lock) {
+            open(Math.max(minimumCapacity, existingCapacity()));
+            replay();
+        }
+        LOGGER.info("Replayed {} revoked token(s) from {}", revoked.size(), path);
+        this.executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("revocation-journal").daemon().factory());
+        executor.execute(this::compactInBackground);
+        long flushInterval = revocationJournalConfig.getFlushInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::flushInBackground, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        long compactionInterval = revocationJournalConfig.getCompactionInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::compactInBackground, compactionInterval, compactionInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Revokes the token until it expires. Tokens without an ID are identified by the token itself.
+     *
+     * @return the digest the token is journaled under, which is what other instances are sent
+     */
+    public HashCode revoke(Claims claims, String accessToken) {
+        HashCode digest = digest(tokenId(claims, accessToken));
+        revoke(digest, claims.getExpiration().toInstant().getEpochSecond());
+        return digest;
+    }
+
+    /**
+     * Revokes the token with the given digest until {@code expiresAt}, in epoch seconds. Used for
+     * revocations relayed by other instances.
+     */
+    public void revoke(HashCode digest, long expiresAt) {
+        synchronized (lock) {
+            if (revoked.put(digest, expiresAt) != null || closed) {
+                return;
+            }
+            if (writePosition + RECORD_SIZE <= journal.limit()) {
+                writeRecord(journal, writePosition, digest, expiresAt);
+                writePosition += RECORD_SIZE;
+                dirty = true;
+            } else {
+                unpersisted = true;
+            }
+            if (!compactionPending && writePosition >= compactionThreshold()) {
+                compactionPending = true;
+                executor.execute(this::compactInBackground);
+            }
+        }
+    }
+
+    public boolean isRevoked(Claims claims, String accessToken) {
+        return revoked.containsKey(digest(tokenId(claims, accessToken)));
+    }
+
+    /**
+     * Group commit: forces every record appended since the previous call to disk with one sync.
+     */
+    public void flush() {
+        if (dirty) {
+            dirty = false;
+            journal.force();
+        }
+    }
+
+    /**
+     * Rewrites the journal with only the records that have not expired yet.
+     */
+    public void compact() {
+        synchronized (lock) {
+            if (!closed) {
+                compactLocked();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (unpersisted) {
+                compactLocked();
+            }
+            journal.force();
+            channel.close();
+            lockChannel.close();
+        }
+    }
+
+    private void flushInBackground() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not flush revocation journal {}", path, e);
+        }
+    }
+
+    private void compactInBackground() {
+        try {
+            compact();
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not compact revocation journal {}", path, e);
+        }
+    }
+
+    /**
+     * Write position from which a compaction is started, leaving a quarter of the file for the
+     * records that arrive while it is queued.
+     */
+    private int compactionThreshold() {
+        return journal.limit() - (journal.limit() - HEADER_SIZE) / 4;
+    }
+
+    private void compactLocked() {
+        compactionPending = false;
+        long now = Instant.now().getEpochSecond();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        int capacity = Math.max(minimumCapacity, revoked.size() * 2);
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        try {
+            try (FileChannel compactedChannel = openChannel(compacted, true)) {
+                MappedByteBuffer buffer = map(compactedChannel, capacity);
+                buffer.putInt(0, MAGIC);
+                int position = HEADER_SIZE;
+                for (Map.Entry<HashCode, Long> entry : revoked.entrySet()) {
+                    writeRecord(buffer, position, entry.getKey(), entry.getValue());
+                    position += RECORD_SIZE;
+                }
+                buffer.force();
+            }
+            Files.move(compacted, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            channel.close();
+            open(capacity);
+            writePosition = HEADER_SIZE + revoked.size() * RECORD_SIZE;
+            dirty = false;
+            unpersisted = false;
+            LOGGER.debug("Compacted revocation journal to {} record(s)", revoked.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not compact revocation journal " + path, e);
+        }
+    }
+
+    private void open(int capacity) {
+        try {
+            channel = openChannel(path, false);
+            journal = map(channel, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open revocation journal " + path, e);
+        }
+    }
+
+    private void replay() {
+        long now = Instant.now().getEpochSecond();
+        writePosition = HEADER_SIZE;
+        if (journal.getInt(0) != MAGIC) {
+            if (journal.getInt(0) != 0) {
+                LOGGER.warn("Revocation journal {} has no valid header, starting empty", path);
+            }
+            compactLocked();
+            return;
+        }
+        byte[] digest = new byte[DIGEST_SIZE];
+        while (writePosition + RECORD_SIZE <= journal.limit()) {
+            long expiresAt = journal.getLong(writePosition + DIGEST_SIZE);
+            if (expiresAt == 0) {
+                break;
+            }
+            if (expiresAt > now) {
+                journal.get(writePosition, digest);
+                revoked.put(HashCode.fromBytes(digest), expiresAt);
+            }
+            writePosition += RECORD_SIZE;
+        }
+    }
+
+    /**
+     * Locks a file next to the journal for as long as it is open. The journal itself is replaced on
+     * every compaction, so a lock on it would not survive the first one.
+     */
+    private static FileChannel lockJournal(Path path) {
+        Path lockFile = path.resolveSibling(path.getFileName() + ".lock");
+        try {
+            Files.createDirectories(path.getParent());
+            FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock fileLock;
+            try {
+                fileLock = lockChannel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                fileLock = null;
+            }
+            if (fileLock == null) {
+                lockChannel.close();
+                throw new IllegalStateException("Revocation journal " + path + " is already in use");
+            }
+            return lockChannel;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not lock revocation journal " + path, e);
+        }
+    }
+
+    private int existingCapacity() {
+        try {
+            return Files.exists(path) ? (int) ((Files.size(path) - HEADER_SIZE) / RECORD_SIZE) : 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read revocation journal " + path, e);
+        }
+    }
+
+    private static void writeRecord(MappedByteBuffer buffer, int position, HashCode digest, long expiresAt) {
+        buffer.put(position, digest.asBytes());
+        buffer.putLong(position + DIGEST_SIZE, expiresAt);
+    }
+
+    private static FileChannel openChannel(Path file, boolean truncate) throws IOException {
+        return truncate
+                ? FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)
+                : FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, int capacity) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+    }
+
+    private static String tokenId(Claims claims, String accessToken) {
+        return claims.getId() != null ? claims.getId() : accessToken;
+    }
+
+    private static HashCode digest(String tokenId) {
+        return Hashing.sha256().hashString(tokenId, StandardCharsets.UTF_8);
+    }
+}
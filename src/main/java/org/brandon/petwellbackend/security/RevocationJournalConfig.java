@@ -0,0 +1,41 @@
+package org.brandon.petwellbackend.security;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Setter
+@Getter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "revocation-journal")
+public class RevocationJournalConfig {
+    @NotNull
+    private Path path = Path.of("data", "revocations.journal");
+
+    /**
+     * Records the journal file holds before it is compacted. Compaction grows the file when more
+     * than half of it is still live.
+     */
+    @Min(16)
+    private int capacity = 262_144;
+
+    /**
+     * How often records appended since the previous flush are forced to disk.
+     */
+    @NotNull
+    private Duration flushInterval = Duration.ofMillis(50);
+
+    /**
+     * How often expired records are dropped, independent of how full the journal is.
+     */
+    @NotNull
+    private Duration compactionInterval = Duration.ofHours(1);
+}
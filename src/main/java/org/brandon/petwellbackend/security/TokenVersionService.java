@@ -0,0 +1,33 @@
+package org.brandon.petwellbackend.security;
+
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.cache.CacheStore;
+import org.brandon.petwellbackend.exception.EntityNotFoundException;
+import org.brandon.petwellbackend.service.UserService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Current token generation per user, as compared on every authenticated request. Deliberately not
+ * transactional: a cached generation costs a map lookup, and only a miss enters the transaction of
+ * {@link UserService#getTokenVersion(String)}, which reads the primary.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenVersionService {
+    private final CacheStore<String, Integer> tokenVersionCache;
+    private final UserService userService;
+
+    /**
+     * @return the token generation that access tokens of this user must carry
+     * @throws EntityNotFoundException if no user corresponding to the email is found
+     */
+    public int getTokenVersion(String email) {
+        Integer cachedTokenVersion = tokenVersionCache.get(email);
+        if (cachedTokenVersion != null) {
+            return cachedTokenVersion;
+        }
+        int tokenVersion = userService.getTokenVersion(email);
+        tokenVersionCache.put(email, tokenVersion);
+        return tokenVersion;
+    }
+}
@@ -0,0 +1,86 @@
+package org.brandon.petwellbackend.security;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Access tokens whose signature and claims have already been verified, keyed by the SHA-256 digest
+ * of the token so the raw token is not retained. An entry is never served past the expiry of its
+ * token, and is dropped after {@link #MAX_AGE} regardless, so that user changes made on another
+ * instance are picked up by re-verification.
+ */
+@Component
+public class VerifiedTokenCache {
+    private static final Duration MAX_AGE = Duration.ofMinutes(10);
+    private static final int MAX_ENTRIES = 100_000;
+
+    private final Cache<String, VerifiedToken> cache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(MAX_AGE)
+            .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+            .build();
+
+    /**
+     * @return the verified token, or null if it was not verified recently or has expired since
+     */
+    public VerifiedToken get(String accessToken) {
+        String key = digest(accessToken);
+        VerifiedToken verifiedToken = cache.getIfPresent(key);
+        if (verifiedToken != null && !verifiedToken.expiresAt().isAfter(Instant.now())) {
+            cache.invalidate(key);
+            return null;
+        }
+        return verifiedToken;
+    }
+
+    public void put(String accessToken, VerifiedToken verifiedToken) {
+        cache.put(digest(accessToken), verifiedToken);
+    }
+
+    public void evict(String accessToken) {
+        cache.invalidate(digest(accessToken));
+    }
+
+    /**
+     * Drops every token of the given user. Scans the whole cache, which is fine for the rare admin
+     * writes that call it.
+     */
+    public void evictUser(String email) {
+        evictUsers(Set.of(email));
+    }
+
+    /**
+     * Drops every token of the given users in a single scan of the cache. Emails are matched ignoring
+     * case, as account locks are keyed by the lowercased email.
+     */
+    public void evictUsers(Set<String> emails) {
+        Set<String> users = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        users.addAll(emails);
+        cache.asMap().values().removeIf(verifiedToken -> users.contains(verifiedToken.userDetails().getUsername()));
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    private static String digest(String accessToken) {
+        return Hashing.sha256().hashString(accessToken, StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * @param userDetails  The user the token was issued to, as loaded when it was verified
+     * @param tokenVersion The token generation carried by the token
+     * @param expiresAt    The expiry of the token
+     */
+    public record VerifiedToken(UserDetails userDetails, int tokenVersion, Instant expiresAt) {
+    }
+}
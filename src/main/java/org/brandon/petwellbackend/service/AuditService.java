@@ -0,0 +1,10 @@
+package org.brandon.petwellbackend.service;
+
+import org.brandon.petwellbackend.payload.AuditEventPage;
+
+import java.time.Instant;
+
+public interface AuditService {
+
+    AuditEventPage getEvents(Instant from, Instant to, String cursor, int limit);
+}
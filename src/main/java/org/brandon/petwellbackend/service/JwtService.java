@@ -3,6 +3,7 @@ package org.brandon.petwellbackend.service;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletResponse;
 import org.brandon.petwellbackend.domain.Token;
+import org.springframework.http.ResponseCookie;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Map;
@@ -12,8 +13,20 @@ public interface JwtService {
 
     void addCookie(HttpServletResponse response, UserDetails user);
 
+    void addRefreshTokenCookie(HttpServletResponse response, String refreshToken);
+
+    void clearRefreshTokenCookie(HttpServletResponse response);
+
+    ResponseCookie createAccessTokenCookie(UserDetails user);
+
+    ResponseCookie createRefreshTokenCookie(String refreshToken);
+
     String extractUsername(String token);
 
+    int extractTokenVersion(String token);
+
+    int extractTokenVersion(Claims claims);
+
     Claims extractClaim(String token);
 
     String generateJwtTokenForCookie(UserDetails userDetails, Function<Token, String> tokenFunction);
@@ -23,4 +36,6 @@ public interface JwtService {
     String generateJwtTokenWithExtraClaims(UserDetails userDetails, Map<String, Object> claims);
 
     boolean isTokenValid(String token, UserDetails userDetails);
+
+    boolean isTokenValid(Claims claims, UserDetails userDetails);
 }
@@ -0,0 +1,15 @@
+package org.brandon.petwellbackend.service;
+
+import org.brandon.petwellbackend.domain.RefreshedSession;
+import org.brandon.petwellbackend.entity.UserEntity;
+
+public interface RefreshTokenService {
+
+    String issueRefreshToken(UserEntity userEntity);
+
+    RefreshedSession rotateRefreshToken(String refreshToken);
+
+    void revokeRefreshToken(String refreshToken);
+
+    void revokeAllRefreshTokens(String userID);
+}
@@ -1,10 +1,17 @@
 package org.brandon.petwellbackend.service;
 
+import org.brandon.petwellbackend.domain.ResourceVersion;
 import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.payload.UserBatch;
 import org.brandon.petwellbackend.payload.UserDTO;
 import org.brandon.petwellbackend.payload.UserRegistrationRequest;
+import org.brandon.petwellbackend.payload.UserSearchPage;
+import org.brandon.petwellbackend.payload.UserStats;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface UserService {
 
@@ -12,8 +19,22 @@ public interface UserService {
 
     List<UserDTO> getAllUsers();
 
+    List<Map<String, Object>> getAllUsers(String fields);
+
     UserDTO getUserByUserID(String userID);
 
+    Map<String, Object> getUserByUserID(String userID, String fields);
+
+    UserBatch getUsersByUserIDs(List<String> userIDs);
+
+    UserSearchPage searchUsers(String query, String cursor, int limit);
+
+    UserStats getUserStats(int days);
+
+    Optional<ResourceVersion> getAllUsersVersion();
+
+    Optional<ResourceVersion> getUserVersion(String userID);
+
     UserEntity getUserByEmail(String email);
 
     UserDTO updateUser(String userID, UserDTO userDto);
@@ -21,4 +42,12 @@ public interface UserService {
     void deleteUser(String userID);
 
     boolean isEmailAlreadyRegistered(String email);
+
+    void lockAccount(String email, Instant lockedUntil);
+
+    void releaseExpiredAccountLock(String email);
+
+    int getTokenVersion(String email);
+
+    void revokeAllSessions(String userID);
 }
@@ -0,0 +1,59 @@
+package org.brandon.petwellbackend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.domain.AuditCursor;
+import org.brandon.petwellbackend.domain.AuditEvent;
+import org.brandon.petwellbackend.exception.ApplicationException;
+import org.brandon.petwellbackend.payload.AuditEventPage;
+import org.brandon.petwellbackend.repository.AuditEventRepository;
+import org.brandon.petwellbackend.service.AuditService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AuditServiceImpl implements AuditService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuditServiceImpl.class);
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final AuditEventRepository auditEventRepository;
+
+    /**
+     * Retrieves audit events in the half-open range [from, to), newest first. Pages are read by
+     * keyset, and the time range lets the database skip every monthly partition outside of it.
+     *
+     * @param from   The earliest time to include.
+     * @param to     The time to read back from, exclusive.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @param limit  The maximum number of events to return, capped at {@value MAX_PAGE_SIZE}.
+     * @return AuditEventPage holding the events and the cursor of the next page, if any.
+     * @throws ApplicationException if the range is empty or the cursor is invalid.
+     */
+    @Override
+    public AuditEventPage getEvents(Instant from, Instant to, String cursor, int limit) {
+        if (!from.isBefore(to)) {
+            throw new ApplicationException(HttpStatus.BAD_REQUEST, "'from' must be before 'to'");
+        }
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        AuditCursor after = cursor == null ? AuditCursor.first(to) : AuditCursor.decode(cursor);
+        try {
+            List<AuditEvent> events = auditEventRepository.findEvents(from, after, pageSize + 1);
+            if (events.size() <= pageSize) {
+                return new AuditEventPage(events, null);
+            }
+            List<AuditEvent> page = events.subList(0, pageSize);
+            AuditEvent last = page.getLast();
+            return new AuditEventPage(page, new AuditCursor(last.occurredAt(), last.id()).encode());
+        } catch (DataAccessException e) {
+            LOGGER.error("An error occurred trying to access the database", e);
+            throw e;
+        }
+    }
+}
@@ -3,76 +3,120 @@ package org.brandon.petwellbackend.service.impl;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.brandon.petwellbackend.domain.Token;
+import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.enums.RoleType;
 import org.brandon.petwellbackend.security.JwtConfig;
+import org.brandon.petwellbackend.security.JwtKeyRing;
 import org.brandon.petwellbackend.service.JwtService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
-import java.util.UUID;
-import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import static org.apache.tomcat.util.http.SameSiteCookies.NONE;
 
 @Service
 @RequiredArgsConstructor
 public class JwtServiceImpl extends JwtConfig implements JwtService {
 
-    private final Supplier<SecretKey> secretKey = () -> Keys.hmacShaKeyFor(Decoders.BASE64.decode(getSecretKey()));
+    /**
+     * Version of the compact claim layout ({@code ver}, {@code rol}, {@code prm}). Tokens without a
+     * {@code ver} claim were issued with the legacy layout and remain valid until they expire.
+     */
+    static final int CLAIMS_VERSION = 2;
+    static final String VERSION_CLAIM = "ver";
+    static final String ROLE_CLAIM = "rol";
+    static final String PERMISSIONS_CLAIM = "prm";
+    static final String TOKEN_VERSION_CLAIM = "gen";
 
-    private final Function<String, Claims> extractAllClaims = token ->
-            Jwts.parser()
-                    .verifyWith(secretKey.get())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+    public static final String ACCESS_TOKEN_COOKIE = "access_token";
+    public static final String REFRESH_TOKEN_COOKIE = "refresh_token";
+    private static final String REFRESH_TOKEN_COOKIE_PATH = "/api/v1/auth";
 
-    private final Supplier<JwtBuilder> builder = () ->
-            Jwts.builder()
-                    .id(UUID.randomUUID().toString())
-                    .issuedAt(Date.from(Instant.now()))
-                    .expiration(Date.from(Instant.now().plusSeconds(getTokenExpiration())))
-                    .signWith(secretKey.get(), Jwts.SIG.HS256);
+    private static final int TOKEN_ID_BYTES = 16;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder TOKEN_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final JwtKeyRing keyRing;
+
+    private final Function<String, Claims> extractAllClaims = this::parseClaims;
+
+    private final Supplier<JwtBuilder> builder = this::newSignedBuilder;
 
     private final Function<UserDetails, String> buildToken = user ->
             builder.get()
                     .subject(user.getUsername())
-                    .claim("role", user.getAuthorities())
+                    .claims(compactClaims(user))
                     .compact();
 
     private final BiFunction<Map<String, Object>, UserDetails, String> buildTokenWithExtraClaims = (extraClaims, user) ->
             builder.get()
                     .subject(user.getUsername())
-                    .claim("role", user.getAuthorities())
+                    .claims(compactClaims(user))
                     .claims(extraClaims)
                     .compact();
 
-    private final BiConsumer<HttpServletResponse, UserDetails> createJWTCookie = (response, user) -> {
-        Cookie cookie = new Cookie("access_token", generateJwtTokenForCookie(user, Token::accessToken));
-        cookie.setHttpOnly(true);
-        cookie.setPath("/");
-        cookie.setDomain("localhost");
-        cookie.setSecure(false);
-        cookie.setMaxAge(2 * 60 * 60);
-        cookie.setAttribute("SameSite", NONE.name());
-        response.addCookie(cookie);
-    };
+    private final Function<UserDetails, ResponseCookie> createJWTCookie = user ->
+            ResponseCookie.from(ACCESS_TOKEN_COOKIE, generateJwtTokenForCookie(user, Token::accessToken))
+                    .httpOnly(true)
+                    .path("/")
+                    .domain(getCookieDomain())
+                    .secure(isCookieSecure())
+                    .maxAge(Duration.ofHours(2))
+                    .sameSite("None")
+                    .build();
+
+    /**
+     * Strict, since only the client's own calls to the auth endpoints ever need to send it.
+     */
+    private final Function<String, ResponseCookie> createRefreshTokenCookie = refreshToken ->
+            ResponseCookie.from(REFRESH_TOKEN_COOKIE, refreshToken == null ? "" : refreshToken)
+                    .httpOnly(true)
+                    .path(REFRESH_TOKEN_COOKIE_PATH)
+                    .domain(getCookieDomain())
+                    .secure(isCookieSecure())
+                    .maxAge(refreshToken == null ? 0 : getRefreshTokenExpiration())
+                    .sameSite("Strict")
+                    .build();
 
     @Override
     public void addCookie(HttpServletResponse response, UserDetails user) {
-        createJWTCookie.accept(response, user);
+        response.addHeader(HttpHeaders.SET_COOKIE, createAccessTokenCookie(user).toString());
+    }
+
+    @Override
+    public void addRefreshTokenCookie(HttpServletResponse response, String refreshToken) {
+        response.addHeader(HttpHeaders.SET_COOKIE, createRefreshTokenCookie(refreshToken).toString());
+    }
+
+    @Override
+    public void clearRefreshTokenCookie(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, createRefreshTokenCookie(null).toString());
+    }
+
+    @Override
+    public ResponseCookie createAccessTokenCookie(UserDetails user) {
+        return createJWTCookie.apply(user);
+    }
+
+    /**
+     * @param refreshToken The refresh token, or null for a cookie that clears it
+     */
+    @Override
+    public ResponseCookie createRefreshTokenCookie(String refreshToken) {
+        return createRefreshTokenCookie.apply(refreshToken);
     }
 
     @Override
@@ -80,6 +124,21 @@ public class JwtServiceImpl extends JwtConfig implements JwtService {
         return getClaimsValue(token, Claims::getSubject);
     }
 
+    /**
+     * @return the token generation the token was issued with; tokens issued before generations
+     * existed count as generation 0
+     */
+    @Override
+    public int extractTokenVersion(String token) {
+        return extractTokenVersion(extractClaim(token));
+    }
+
+    @Override
+    public int extractTokenVersion(Claims claims) {
+        Integer tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+        return tokenVersion == null ? 0 : tokenVersion;
+    }
+
     @Override
     public Claims extractClaim(String token) {
         return extractAllClaims.apply(token);
@@ -103,16 +162,52 @@ public class JwtServiceImpl extends JwtConfig implements JwtService {
 
     @Override
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = getClaimsValue(token, Claims::getSubject);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        return isTokenValid(extractClaim(token), userDetails);
+    }
+
+    @Override
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return isSupportedVersion(claims)
+                && claims.getSubject().equals(userDetails.getUsername())
+                && claims.getExpiration().after(Date.from(Instant.now()));
+    }
+
+    private Claims parseClaims(String token) {
+        return keyRing.getParser()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private JwtBuilder newSignedBuilder() {
+        Instant now = Instant.now();
+        return keyRing.sign(Jwts.builder()
+                .id(generateTokenId())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(getTokenExpiration()))));
+    }
+
+    private static boolean isSupportedVersion(Claims claims) {
+        Integer version = claims.get(VERSION_CLAIM, Integer.class);
+        return version == null || version <= CLAIMS_VERSION;
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(Date.from(Instant.now()));
+    private static Map<String, Object> compactClaims(UserDetails user) {
+        if (user instanceof UserEntity userEntity && userEntity.getRole() != null) {
+            RoleType roleType = userEntity.getRole().getRoleType();
+            return Map.of(
+                    VERSION_CLAIM, CLAIMS_VERSION,
+                    ROLE_CLAIM, roleType.getCode(),
+                    PERMISSIONS_CLAIM, roleType.getPermissionMask(),
+                    TOKEN_VERSION_CLAIM, userEntity.getTokenVersion()
+            );
+        }
+        return Map.of(VERSION_CLAIM, CLAIMS_VERSION);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token).getExpiration();
+    private static String generateTokenId() {
+        byte[] bytes = new byte[TOKEN_ID_BYTES];
+        RANDOM.nextBytes(bytes);
+        return TOKEN_ID_ENCODER.encodeToString(bytes);
     }
 
     private <T> T getClaimsValue(String token, Function<Claims, T> claimsExtractor) {
@@ -0,0 +1,141 @@
+package org.brandon.petwellbackend.service.impl;
+
+import com.google.common.hash.Hashing;
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.domain.RefreshedSession;
+import org.brandon.petwellbackend.entity.RefreshToken;
+import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.exception.ApplicationException;
+import org.brandon.petwellbackend.repository.RefreshTokenRepository;
+import org.brandon.petwellbackend.repository.UserEntityRepository;
+import org.brandon.petwellbackend.security.JwtConfig;
+import org.brandon.petwellbackend.service.RefreshTokenService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RefreshTokenServiceImpl.class);
+
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserEntityRepository userEntityRepository;
+    private final JwtConfig jwtConfig;
+
+    /**
+     * Issues a new opaque refresh token for the given user. Only its hash is persisted.
+     *
+     * @param userEntity The user the token is issued to
+     * @return the raw refresh token to hand to the client
+     */
+    @Override
+    public String issueRefreshToken(UserEntity userEntity) {
+        return issueRefreshToken(userEntity, LocalDateTime.now().plusSeconds(jwtConfig.getRefreshTokenExpiration()));
+    }
+
+    /**
+     * Exchanges a refresh token for a new one and returns the user it belongs to. The presented token
+     * is revoked; presenting a revoked token again revokes every refresh token of that user. The
+     * revocation is a conditional update, so of two concurrent rotations of the same token only one
+     * succeeds and the other counts as reuse. The replacement keeps the expiry of the presented token,
+     * so rotating never extends a session beyond its original lifetime.
+     *
+     * @param refreshToken The raw refresh token presented by the client
+     * @return the owning user and the replacement refresh token
+     * @throws ApplicationException if the token is unknown, expired, revoked or the user is disabled
+     */
+    @Override
+    @Transactional(noRollbackFor = ApplicationException.class)
+    public RefreshedSession rotateRefreshToken(String refreshToken) {
+        String tokenHash = hash(refreshToken);
+        RefreshToken storedToken = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(RefreshTokenServiceImpl::notAuthorized);
+        if (storedToken.isRevoked()) {
+            throw reuseDetected(storedToken.getUserID());
+        }
+        if (storedToken.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw notAuthorized();
+        }
+        UserEntity userEntity = userEntityRepository.findByUserID(storedToken.getUserID())
+                .filter(user -> user.isEnabled() && user.isAccountNonLocked())
+                .orElseThrow(RefreshTokenServiceImpl::notAuthorized);
+        if (refreshTokenRepository.revokeByTokenHash(tokenHash) == 0) {
+            throw reuseDetected(storedToken.getUserID());
+        }
+        return RefreshedSession.builder()
+                .user(userEntity)
+                .refreshToken(issueRefreshToken(userEntity, storedToken.getExpiresAt()))
+                .build();
+    }
+
+    /**
+     * Revokes the given refresh token if it exists.
+     *
+     * @param refreshToken The raw refresh token presented by the client
+     */
+    @Override
+    public void revokeRefreshToken(String refreshToken) {
+        refreshTokenRepository.revokeByTokenHash(hash(refreshToken));
+    }
+
+    /**
+     * Revokes every refresh token issued to the given user.
+     *
+     * @param userID The ID of the user
+     */
+    @Override
+    public void revokeAllRefreshTokens(String userID) {
+        int revoked = refreshTokenRepository.revokeAllByUserID(userID);
+        LOGGER.debug("Revoked {} refresh tokens of user {}", revoked, userID);
+    }
+
+    @Scheduled(cron = "${token.refresh-token-cleanup-cron:0 0 * * * *}")
+    public void deleteExpiredRefreshTokens() {
+        int deleted = refreshTokenRepository.deleteAllExpiredBefore(LocalDateTime.now());
+        LOGGER.debug("Deleted {} expired refresh tokens", deleted);
+    }
+
+    private String issueRefreshToken(UserEntity userEntity, LocalDateTime expiresAt) {
+        String refreshToken = generateToken();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(refreshToken))
+                .userID(userEntity.getUserID())
+                .expiresAt(expiresAt)
+                .build());
+        return refreshToken;
+    }
+
+    private ApplicationException reuseDetected(String userID) {
+        LOGGER.warn("Revoked refresh token presented, revoking all sessions of user {}", userID);
+        refreshTokenRepository.revokeAllByUserID(userID);
+        return notAuthorized();
+    }
+
+    private static String generateToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return TOKEN_ENCODER.encodeToString(bytes);
+    }
+
+    private static String hash(String refreshToken) {
+        return Hashing.sha256().hashString(refreshToken, StandardCharsets.UTF_8).toString();
+    }
+
+    private static ApplicationException notAuthorized() {
+        return new ApplicationException(HttpStatus.UNAUTHORIZED, "Not authorized");
+    }
+}
@@ -1,29 +1,59 @@
 package org.brandon.petwellbackend.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.audit.AuditEventPublisher;
+import org.brandon.petwellbackend.cache.CacheInvalidationBus;
+import org.brandon.petwellbackend.cache.CacheStore;
 import org.brandon.petwellbackend.common.Mapper;
+import org.brandon.petwellbackend.domain.ResourceVersion;
+import org.brandon.petwellbackend.domain.SearchCursor;
 import org.brandon.petwellbackend.entity.UserEntity;
 import org.brandon.petwellbackend.entity.Role;
+import org.brandon.petwellbackend.enums.AuditEventType;
+import org.brandon.petwellbackend.enums.OutboxMessageType;
 import org.brandon.petwellbackend.enums.RoleType;
+import org.brandon.petwellbackend.enums.UserField;
 import org.brandon.petwellbackend.exception.ApplicationException;
 import org.brandon.petwellbackend.exception.EntityAlreadyExistsException;
 import org.brandon.petwellbackend.exception.EntityNotFoundException;
+import org.brandon.petwellbackend.outbox.OutboxPublisher;
+import org.brandon.petwellbackend.payload.UserBatch;
 import org.brandon.petwellbackend.payload.UserDTO;
+import org.brandon.petwellbackend.payload.UserLifecycleMessage;
 import org.brandon.petwellbackend.payload.UserRegistrationRequest;
+import org.brandon.petwellbackend.payload.UserSearchPage;
+import org.brandon.petwellbackend.payload.UserStats;
 import org.brandon.petwellbackend.repository.UserEntityRepository;
+import org.brandon.petwellbackend.repository.UserEntityRepository.CollectionVersion;
+import org.brandon.petwellbackend.repository.UserEntityRepository.UserSearchResult;
+import org.brandon.petwellbackend.repository.UserStatsRepository;
+import org.brandon.petwellbackend.security.VerifiedTokenCache;
+import org.brandon.petwellbackend.service.RefreshTokenService;
 import org.brandon.petwellbackend.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.BiFunction;
 
-import static java.util.Comparator.comparing;
-
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -32,6 +62,18 @@ public class UserServiceImpl implements UserService {
 
     private final UserEntityRepository userEntityRepository;
     private final Mapper mapper;
+    private final CacheStore<String, UserSearchPage> userSearchCache;
+    private final CacheStore<String, Integer> tokenVersionCache;
+    private final RefreshTokenService refreshTokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AuditEventPublisher auditEventPublisher;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final OutboxPublisher outboxPublisher;
+    private final UserStatsRepository userStatsRepository;
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_STATS_DAYS = 365;
+    private static final int BATCH_QUERY_CHUNK_SIZE = 100;
 
     private static final BiFunction<String, String, String> getUpdatedStringValue = (input, defaultValue) ->
             input != null ? input : defaultValue;
@@ -53,7 +95,13 @@ public class UserServiceImpl implements UserService {
         }
         try {
             UserEntity userEntity = mapper.toUser(registrationRequest);
-            return userEntityRepository.save(userEntity);
+            UserEntity savedUserEntity = userEntityRepository.save(userEntity);
+            afterCommit(userSearchCache::evictAll);
+            cacheInvalidationBus.publishSearchChanged();
+            auditEventPublisher.publish(AuditEventType.USER_CREATED, savedUserEntity.getUserID(), null);
+            outboxPublisher.publish(OutboxMessageType.USER_REGISTERED, savedUserEntity.getUserID(),
+                    toLifecycleMessage(savedUserEntity));
+            return savedUserEntity;
         } catch (DataAccessException e) {
             LOGGER.error("An error occured trying to access the database", e);
             throw e;
@@ -61,25 +109,23 @@ public class UserServiceImpl implements UserService {
     }
 
     /**
-     * Retrieves all stored users
+     * Retrieves all stored users, ordered by last name. Rows are selected straight into UserDTO, so no
+     * entity or password hash is loaded.
      *
      * @return List of UserDTO for all employees.
      * @throws ApplicationException if any issues occur while accessing the database.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<UserDTO> getAllUsers() {
         LOGGER.debug("Attempting to find all user");
         try {
-            List<UserDTO> userDTOS = userEntityRepository.findAll()
-                    .stream()
-                    .sorted(comparing(UserEntity::getLastname))
-                    .map(mapper::toUserDTO)
-                    .toList();
+            List<UserDTO> userDTOS = userEntityRepository.findAllUserDTOs();
             if (userDTOS.isEmpty()) {
                 LOGGER.warn("UserDTO list is empty.");
                 throw new ApplicationException(HttpStatus.NOT_FOUND, "No users found");
             }
-            LOGGER.info("UserDTO contains {} employees", userDTOS.size());
+            LOGGER.debug("UserDTO contains {} employees", userDTOS.size());
             return userDTOS;
         } catch (DataAccessException e) {
             LOGGER.error("An error occured trying to access the database", e);
@@ -87,6 +133,31 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    /**
+     * Retrieves only the requested fields of all stored users, ordered by last name. Only the columns
+     * behind those fields are selected.
+     *
+     * @param fields Comma-separated JSON names of the fields to return, e.g. {@code user_id,first_name}.
+     * @return a map of field name to value for every user.
+     * @throws ApplicationException if a field is unknown, or if no users are found.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllUsers(String fields) {
+        EnumSet<UserField> userFields = parseFields(fields);
+        try {
+            List<Map<String, Object>> users = userEntityRepository.findAllUserFields(userFields);
+            if (users.isEmpty()) {
+                LOGGER.warn("User list is empty.");
+                throw new ApplicationException(HttpStatus.NOT_FOUND, "No users found");
+            }
+            return users;
+        } catch (DataAccessException e) {
+            LOGGER.error("An error occurred trying to access the database", e);
+            throw e;
+        }
+    }
+
     /**
      * Retrieves a user's details by the provided ID.
      *
@@ -96,11 +167,11 @@ public class UserServiceImpl implements UserService {
      * @throws ApplicationException    if any issues occur while accessing the database.
      */
     @Override
+    @Transactional(readOnly = true)
     public UserDTO getUserByUserID(String userID) {
         LOGGER.debug("Attempting to find user by ID: {}", userID);
         try {
-            return userEntityRepository.findByUserID(userID)
-                    .map(mapper::toUserDTO)
+            return userEntityRepository.findUserDTOByUserID(userID)
                     .orElseThrow(() -> handleEntityNotFoundException(userID));
         } catch (DataAccessException e) {
             LOGGER.error("An error occured trying to access the database", e);
@@ -108,6 +179,170 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    /**
+     * Retrieves only the requested fields of the user with the provided ID.
+     *
+     * @param userID The ID of the user to be retrieved.
+     * @param fields Comma-separated JSON names of the fields to return.
+     * @return a map of field name to value.
+     * @throws EntityNotFoundException if a user with the provided ID is not found.
+     * @throws ApplicationException    if a field is unknown.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getUserByUserID(String userID, String fields) {
+        EnumSet<UserField> userFields = parseFields(fields);
+        try {
+            return userEntityRepository.findUserFieldsByUserID(userID, userFields)
+                    .orElseThrow(() -> handleEntityNotFoundException(userID));
+        } catch (DataAccessException e) {
+            LOGGER.error("An error occurred trying to access the database", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves several users by their IDs with one {@code IN} query per
+     * {@value BATCH_QUERY_CHUNK_SIZE} IDs, instead of one request and query per user.
+     *
+     * @param userIDs The IDs of the users to be retrieved. Duplicates are resolved once.
+     * @return UserBatch holding the found users in the order their IDs were given, and the IDs that
+     * matched no user.
+     * @throws DataAccessException in case of any database access related issues
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public UserBatch getUsersByUserIDs(List<String> userIDs) {
+        List<String> distinctUserIDs = List.copyOf(new LinkedHashSet<>(userIDs));
+        LOGGER.debug("Attempting to find {} users by ID", distinctUserIDs.size());
+        Map<String, UserDTO> usersByID = new HashMap<>();
+        try {
+            for (int from = 0; from < distinctUserIDs.size(); from += BATCH_QUERY_CHUNK_SIZE) {
+                List<String> chunk = distinctUserIDs.subList(from, Math.min(from + BATCH_QUERY_CHUNK_SIZE, distinctUserIDs.size()));
+                for (UserDTO user : userEntityRepository.findUserDTOsByUserIDIn(chunk)) {
+                    usersByID.put(user.userID(), user);
+                }
+            }
+        } catch (DataAccessException e) {
+            LOGGER.error("An error occurred trying to access the database", e);
+            throw e;
+        }
+        List<UserDTO> users = new ArrayList<>(usersByID.size());
+        List<String> missingIDs = new ArrayList<>();
+        for (String userID : distinctUserIDs) {
+            UserDTO user = usersByID.get(userID);
+            if (user != null) {
+                users.add(user);
+            } else {
+                missingIDs.add(userID);
+            }
+        }
+        return new UserBatch(users, missingIDs);
+    }
+
+    /**
+     * Searches users by prefix and trigram similarity of first name, last name and email. Results are
+     * ranked by score and paged by keyset, so a page never shifts when rows are added before it. Every
+     * page still scores and sorts all matching users; the page size bounds what is returned, not what
+     * is read. First pages are cached briefly because the same few queries are repeated while an
+     * admin types. Not read-only on purpose: a page read from a lagging replica right after a write
+     * would be cached again and served for the whole cache lifetime.
+     *
+     * @param query  The search text.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @param limit  The maximum number of users to return, capped at {@value MAX_SEARCH_PAGE_SIZE}.
+     * @return UserSearchPage holding the matching users and the cursor of the next page, if any.
+     * @throws ApplicationException if the query is blank or the cursor is invalid.
+     */
+    @Override
+    public UserSearchPage searchUsers(String query, String cursor, int limit) {
+        String normalizedQuery = query == null ? "" : query.strip().toLowerCase(Locale.ROOT);
+        if (normalizedQuery.isEmpty()) {
+            throw new ApplicationException(HttpStatus.BAD_REQUEST, "Search query must not be blank");
+        }
+        int pageSize = Math.clamp(limit, 1, MAX_SEARCH_PAGE_SIZE);
+        String cacheKey = pageSize + ":" + normalizedQuery;
+        if (cursor == null) {
+            UserSearchPage cachedPage = userSearchCache.get(cacheKey);
+            if (cachedPage != null) {
+                return cachedPage;
+            }
+        }
+        SearchCursor after = cursor == null ? SearchCursor.FIRST : SearchCursor.decode(cursor);
+        try {
+            List<UserSearchResult> results = userEntityRepository.searchUsers(normalizedQuery,
+                    escapeLikePattern(normalizedQuery) + "%", after.score(), after.userID(), pageSize + 1);
+            UserSearchPage page = toSearchPage(results, pageSize);
+            if (cursor == null) {
+                userSearchCache.put(cacheKey, page);
+            }
+            return page;
+        } catch (DataAccessException e) {
+            LOGGER.error("An error occurred trying to access the database", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves user counts per role and account state, and registrations per day. The figures come
+     * from precomputed summaries and may be a few minutes old; see {@code refreshed_at}.
+     *
+     * @param days The number of days of registrations to include, today included, capped at
+     *             {@value MAX_STATS_DAYS}.
+     * @return UserStats as of the last refresh.
+     * @throws DataAccessException in case of any database access related issues
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public UserStats getUserStats(int days) {
+        LocalDate since = LocalDate.now().minusDays(Math.clamp(days, 1, MAX_STATS_DAYS) - 1);
+        try {
+            return userStatsRepository.findStats(since);
+        } catch (DataAccessException e) {
+            LOGGER.error("An error occurred trying to access the database", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves the version of the user list without loading any users.
+     *
+     * @return the version of the user list, or empty if there are no users.
+     * @throws DataAccessException in case of any database access related issues
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getAllUsersVersion() {
+        try {
+            CollectionVersion version = userEntityRepository.findCollectionVersion();
+            if (version == null || version.getLastUpdatedAt() == null) {
+                return Optional.empty();
+            }
+            return Optional.of(ResourceVersion.of(version.getLastUpdatedAt(), version.getCount()));
+        } catch (DataAccessException e) {
+            LOGGER.error("An error occurred trying to access the database", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves the version of a single user without loading the user.
+     *
+     * @param userID The ID of the user.
+     * @return the version of the user, or empty if no such user exists.
+     * @throws DataAccessException in case of any database access related issues
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getUserVersion(String userID) {
+        try {
+            return userEntityRepository.findUpdatedAtByUserID(userID).map(ResourceVersion::of);
+        } catch (DataAccessException e) {
+            LOGGER.error("An error occurred trying to access the database", e);
+            throw e;
+        }
+    }
+
     /**
      * Retrieves a user based on the email provided.
      *
@@ -117,6 +352,7 @@ public class UserServiceImpl implements UserService {
      * @throws DataAccessException     in case of any database access related issues
      */
     @Override
+    @Transactional(readOnly = true)
     public UserEntity getUserByEmail(String email) {
         LOGGER.debug("Attempting to find user: {}", email);
         try {
@@ -139,13 +375,19 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public UserDTO updateUser(String userID, UserDTO userDto) {
-        LOGGER.info("Attempting to update user with ID: {}", userID);
+        LOGGER.debug("Attempting to update user with ID: {}", userID);
         try {
-            return userEntityRepository.findByUserID(userID)
-                    .map(user -> updateUserEntity(userDto, user))
-                    .map(userEntityRepository::save)
-                    .map(mapper::toUserDTO)
+            UserEntity existingUserEntity = userEntityRepository.findByUserID(userID)
                     .orElseThrow(() -> handleEntityNotFoundException(userID));
+            RoleType previousRoleType = existingUserEntity.getRole().getRoleType();
+            UserEntity updatedUserEntity = userEntityRepository.save(updateUserEntity(userDto, existingUserEntity));
+            afterCommit(() -> {
+                userSearchCache.evictAll();
+                verifiedTokenCache.evictUser(existingUserEntity.getEmail());
+            });
+            cacheInvalidationBus.publishUserChanged(existingUserEntity.getEmail());
+            auditUpdate(userID, previousRoleType, updatedUserEntity.getRole().getRoleType());
+            return mapper.toUserDTO(updatedUserEntity);
         } catch (DataAccessException e) {
             LOGGER.error("An error occured trying to access the database", e);
             throw e;
@@ -153,7 +395,8 @@ public class UserServiceImpl implements UserService {
     }
 
     /**
-     * Deletes a user identified by the provided ID.
+     * Deletes a user identified by the provided ID. The row is only marked as deleted, which hides it
+     * from every query; it is physically removed later by {@code UserPurgeJob}.
      *
      * @param userID The ID of the user to be deleted.
      * @throws EntityNotFoundException if a user with the provided ID is not found.
@@ -166,7 +409,15 @@ public class UserServiceImpl implements UserService {
             UserEntity userEntityToDelete = userEntityRepository.findByUserID(userID)
                     .orElseThrow(() -> handleEntityNotFoundException(userID));
 
-            userEntityRepository.deleteByUserID(userEntityToDelete.getUserID());
+            userEntityRepository.softDeleteByUserID(userEntityToDelete.getUserID());
+            afterCommit(() -> {
+                userSearchCache.evictAll();
+                tokenVersionCache.evict(userEntityToDelete.getEmail());
+                verifiedTokenCache.evictUser(userEntityToDelete.getEmail());
+            });
+            cacheInvalidationBus.publishUserChanged(userEntityToDelete.getEmail());
+            auditEventPublisher.publish(AuditEventType.USER_DELETED, userID, null);
+            outboxPublisher.publish(OutboxMessageType.USER_DELETED, userID, toLifecycleMessage(userEntityToDelete));
         } catch (DataAccessException e) {
             LOGGER.error("An error occured trying to access the database", e);
             throw e;
@@ -181,6 +432,7 @@ public class UserServiceImpl implements UserService {
      * @throws DataAccessException in case of any database access related issues
      */
     @Override
+    @Transactional(readOnly = true)
     public boolean isEmailAlreadyRegistered(String email) {
         try {
             return userEntityRepository.existsByEmail(email);
@@ -190,17 +442,186 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    /**
+     * Persists the lock of the account with the provided email until the given time. Runs
+     * asynchronously so that login handling never waits on this write.
+     *
+     * @param email       The email address of the account
+     * @param lockedUntil When the lock expires
+     */
+    @Async
+    @Override
+    public void lockAccount(String email, Instant lockedUntil) {
+        try {
+            userEntityRepository.lockAccount(email, LocalDateTime.ofInstant(lockedUntil, ZoneId.systemDefault()));
+            afterCommit(() -> {
+                userSearchCache.evictAll();
+                verifiedTokenCache.evictUser(email);
+            });
+            cacheInvalidationBus.publishUserChanged(email);
+        } catch (DataAccessException e) {
+            LOGGER.error("An error occurred trying to access the database", e);
+        }
+    }
+
+    /**
+     * Clears the persisted lock of the account with the provided email if it has expired. A lock that
+     * is still in force is left alone, whichever instance set it.
+     *
+     * @param email The email address of the account
+     */
+    @Async
+    @Override
+    public void releaseExpiredAccountLock(String email) {
+        try {
+            if (userEntityRepository.releaseExpiredAccountLock(email, LocalDateTime.now()) == 0) {
+                return;
+            }
+            afterCommit(() -> {
+                userSearchCache.evictAll();
+                verifiedTokenCache.evictUser(email);
+            });
+            cacheInvalidationBus.publishUserChanged(email);
+        } catch (DataAccessException e) {
+            LOGGER.error("An error occurred trying to access the database", e);
+        }
+    }
+
+    /**
+     * Retrieves the current token generation of the user with the provided email. Callers cache the
+     * result, see {@code TokenVersionService}, so this only runs on a cache miss. Not read-only on
+     * purpose: a lagging replica could hand back the generation from before a revocation and have it
+     * cached again.
+     *
+     * @param email The email address of the user
+     * @return the token generation that access tokens of this user must carry
+     * @throws EntityNotFoundException if no user corresponding to the email is found
+     * @throws DataAccessException     in case of any database access related issues
+     */
+    @Override
+    public int getTokenVersion(String email) {
+        try {
+            return userEntityRepository.findTokenVersionByEmail(email)
+                    .orElseThrow(() -> handleEntityNotFoundException(email));
+        } catch (DataAccessException e) {
+            LOGGER.error("An error occurred trying to access the database", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Signs the user out everywhere: increments the token generation, which invalidates every access
+     * token issued so far with a single write, and revokes all refresh tokens.
+     *
+     * @param userID The ID of the user.
+     * @throws EntityNotFoundException if a user with the provided ID is not found.
+     * @throws DataAccessException     in case of any database access related issues
+     */
+    @Override
+    public void revokeAllSessions(String userID) {
+        LOGGER.debug("Attempting to revoke all sessions of user with ID: {}", userID);
+        try {
+            UserEntity userEntity = userEntityRepository.findByUserID(userID)
+                    .orElseThrow(() -> handleEntityNotFoundException(userID));
+            userEntityRepository.incrementTokenVersion(userID);
+            refreshTokenService.revokeAllRefreshTokens(userID);
+            afterCommit(() -> tokenVersionCache.evict(userEntity.getEmail()));
+            cacheInvalidationBus.publishUserChanged(userEntity.getEmail());
+            auditEventPublisher.publish(AuditEventType.SESSIONS_REVOKED, userID, null);
+        } catch (DataAccessException e) {
+            LOGGER.error("An error occurred trying to access the database", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Evicting before the commit would let a concurrent request cache the old state again.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static UserLifecycleMessage toLifecycleMessage(UserEntity userEntity) {
+        return new UserLifecycleMessage(userEntity.getUserID(), userEntity.getEmail(),
+                userEntity.getFirstname(), userEntity.getLastname());
+    }
+
+    /**
+     * Updates the managed entity in place, so that the state this update does not touch, such as an
+     * account lock or the token generation, is kept as it is.
+     */
     private UserEntity updateUserEntity(UserDTO userDTO, UserEntity userEntity) {
-        return UserEntity.builder()
-                .userID(userEntity.getUserID())
-                .firstname(getUpdatedStringValue.apply(userDTO.firstname(), userEntity.getFirstname()))
-                .lastname(getUpdatedStringValue.apply(userDTO.lastname(), userEntity.getLastname()))
-                .email(userEntity.getEmail())
-                .password(userEntity.getPassword())
-                .role(Role.builder().roleType(getRoleType(userDTO, userEntity)).build())
+        userEntity.setFirstname(getUpdatedStringValue.apply(userDTO.firstname(), userEntity.getFirstname()));
+        userEntity.setLastname(getUpdatedStringValue.apply(userDTO.lastname(), userEntity.getLastname()));
+        RoleType roleType = getRoleType(userDTO, userEntity);
+        if (roleType != userEntity.getRole().getRoleType()) {
+            userEntity.setRole(Role.builder().roleType(roleType).build());
+        }
+        return userEntity;
+    }
+
+    private void auditUpdate(String userID, RoleType previousRoleType, RoleType roleType) {
+        auditEventPublisher.publish(AuditEventType.USER_UPDATED, userID, null);
+        if (previousRoleType != roleType) {
+            auditEventPublisher.publish(AuditEventType.ROLE_CHANGED, userID, previousRoleType + " -> " + roleType);
+        }
+    }
+
+    private static UserSearchPage toSearchPage(List<UserSearchResult> results, int pageSize) {
+        List<UserSearchResult> pageResults = results.subList(0, Math.min(results.size(), pageSize));
+        List<UserDTO> users = pageResults.stream()
+                .map(UserServiceImpl::toUserDTO)
+                .toList();
+        String nextCursor = null;
+        if (results.size() > pageSize) {
+            UserSearchResult last = pageResults.getLast();
+            nextCursor = new SearchCursor(last.getScore(), last.getUserID()).encode();
+        }
+        return new UserSearchPage(users, nextCursor);
+    }
+
+    private static UserDTO toUserDTO(UserSearchResult result) {
+        return UserDTO.builder()
+                .userID(result.getUserID())
+                .firstname(result.getFirstname())
+                .lastname(result.getLastname())
+                .email(result.getEmail())
+                .role(result.getRoleType() != null ? RoleType.valueOf(result.getRoleType()).getName() : null)
+                .isAccountNonExpired(result.getIsAccountNonExpired())
+                .isAccountNonLocked(result.getIsAccountNonLocked())
+                .isCredentialsNonExpired(result.getIsCredentialsNonExpired())
+                .isEnabled(result.getIsEnabled())
                 .build();
     }
 
+    private static EnumSet<UserField> parseFields(String fields) {
+        EnumSet<UserField> userFields = EnumSet.noneOf(UserField.class);
+        for (String name : fields.split(",")) {
+            String fieldName = name.strip();
+            if (!fieldName.isEmpty()) {
+                userFields.add(UserField.fromJsonName(fieldName)
+                        .orElseThrow(() -> new ApplicationException(HttpStatus.BAD_REQUEST, "Unknown field: " + fieldName)));
+            }
+        }
+        if (userFields.isEmpty()) {
+            throw new ApplicationException(HttpStatus.BAD_REQUEST, "Fields must name at least one field");
+        }
+        return userFields;
+    }
+
+    private static String escapeLikePattern(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     private static RoleType getRoleType(UserDTO userDTO, UserEntity userEntity) {
         String roleTypeName = getUpdatedStringValue.apply(userDTO.role(), userEntity.getRole().getRoleType().getName());
         return RoleType.valueOf(roleTypeName.toUpperCase());
@@ -208,15 +629,13 @@ public class UserServiceImpl implements UserService {
 
     private static EntityNotFoundException handleEntityNotFoundException(String userID) {
         String errorMessage = String.format("Could not find user: %s", userID);
-        EntityNotFoundException ex = new EntityNotFoundException(errorMessage, userID);
-        LOGGER.warn(errorMessage, ex);
-        return ex;
+        LOGGER.debug(errorMessage);
+        return new EntityNotFoundException(errorMessage, userID);
     }
 
     private static void handleEntityAlreadyExistsException(String registrationEmail) {
         String errorMessage = String.format("%s is already associated with another user", registrationEmail);
-        EntityAlreadyExistsException ex = new EntityAlreadyExistsException(errorMessage, registrationEmail);
-        LOGGER.warn(errorMessage, ex);
-        throw ex;
+        LOGGER.debug(errorMessage);
+        throw new EntityAlreadyExistsException(errorMessage, registrationEmail);
     }
 }
@@ -0,0 +1,32 @@
+package org.brandon.petwellbackend.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.repository.UserStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recomputes the user statistics served by {@code GET /api/v1/users/stats}. The endpoint lags behind
+ * by at most one refresh interval.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserStatsRefresher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UserStatsRefresher.class);
+
+    private final UserStatsRepository userStatsRepository;
+
+    @Scheduled(fixedDelayString = "${user-stats.refresh-interval:PT5M}", initialDelayString = "${user-stats.refresh-interval:PT5M}")
+    public void refreshStats() {
+        try {
+            if (!userStatsRepository.refresh()) {
+                LOGGER.debug("User statistics are being refreshed by another instance");
+            }
+        } catch (DataAccessException e) {
+            LOGGER.error("Could not refresh user statistics", e);
+        }
+    }
+}
@@ -4,14 +4,13 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 public class DateTimeUtil {
-    
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("MM-dd-yyyy hh:mm:ss:SS a");
+
     private DateTimeUtil() {
         throw new IllegalStateException("Utility class");
     }
 
-    public static String parseAndFormatDateTime(LocalDateTime localDateTime) {
-        return LocalDateTime
-                .parse(localDateTime.toString())
-                .format(DateTimeFormatter.ofPattern("MM-dd-yyyy hh:mm:ss:SS a"));
+    public static String formatDateTime(LocalDateTime localDateTime) {
+        return DATE_TIME_FORMATTER.format(localDateTime);
     }
 }
@@ -0,0 +1,72 @@
+-- Runs after Hibernate has created the tables (spring.jpa.defer-datasource-initialization).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Deleted users only keep their row until UserPurgeJob removes it, so every index that serves
+-- lookups covers active rows only. Emails are unique among active users.
+CREATE UNIQUE INDEX IF NOT EXISTS employees_email_active_key ON employees (email) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS employees_deleted_at_idx ON employees (deleted_at) WHERE deleted_at IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS employees_first_name_trgm_idx ON employees USING gin (lower(first_name) gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS employees_last_name_trgm_idx ON employees USING gin (lower(last_name) gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS employees_email_trgm_idx ON employees USING gin (lower(email) gin_trgm_ops) WHERE deleted_at IS NULL;
+
+-- Append-only audit log, one partition per month. AuditPartitionMaintainer creates the monthly
+-- partitions ahead of time; the default partition only catches events outside of them.
+CREATE TABLE IF NOT EXISTS audit_events (
+    id          bigserial    NOT NULL,
+    occurred_at timestamptz  NOT NULL,
+    event_type  varchar(32)  NOT NULL,
+    actor       varchar(255),
+    subject     varchar(255),
+    detail      varchar(1024),
+    PRIMARY KEY (occurred_at, id)
+) PARTITION BY RANGE (occurred_at);
+
+CREATE TABLE IF NOT EXISTS audit_events_default PARTITION OF audit_events DEFAULT;
+
+-- Transactional outbox, written in the transaction of the change it describes and drained by
+-- OutboxRelay. Delivered messages are deleted; messages that ran out of attempts are parked at
+-- available_at = 'infinity' with their last error.
+CREATE TABLE IF NOT EXISTS outbox_messages (
+    id           bigserial    PRIMARY KEY,
+    message_type varchar(64)  NOT NULL,
+    aggregate_id varchar(255) NOT NULL,
+    payload      jsonb        NOT NULL,
+    created_at   timestamptz  NOT NULL DEFAULT now(),
+    available_at timestamptz  NOT NULL DEFAULT now(),
+    attempts     int          NOT NULL DEFAULT 0,
+    last_error   varchar(1024)
+);
+
+CREATE INDEX IF NOT EXISTS outbox_messages_available_at_idx ON outbox_messages (available_at, id);
+
+-- User statistics for the admin dashboard, refreshed CONCURRENTLY by UserStatsRefresher. Concurrent
+-- refreshes need a unique index on each view. Registrations only go back a year.
+CREATE MATERIALIZED VIEW IF NOT EXISTS user_account_stats AS
+SELECT 1                                                 AS id,
+       count(*)                                          AS total_users,
+       count(*) FILTER (WHERE is_enabled)                AS enabled_users,
+       count(*) FILTER (WHERE NOT is_account_non_locked) AS locked_users,
+       now()                                             AS refreshed_at
+FROM employees
+WHERE deleted_at IS NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS user_account_stats_id_key ON user_account_stats (id);
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS user_role_stats AS
+SELECT r.role_type, count(*) AS user_count
+FROM employees e
+JOIN user_roles ur ON ur.user_id = e.id
+JOIN roles r ON r.id = ur.role_id
+WHERE e.deleted_at IS NULL
+GROUP BY r.role_type;
+
+CREATE UNIQUE INDEX IF NOT EXISTS user_role_stats_role_type_key ON user_role_stats (role_type);
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS user_registration_stats AS
+SELECT cast(created_at AS date) AS day, count(*) AS registrations
+FROM employees
+WHERE deleted_at IS NULL AND created_at >= current_date - 365
+GROUP BY cast(created_at AS date);
+
+CREATE UNIQUE INDEX IF NOT EXISTS user_registration_stats_day_key ON user_registration_stats (day);
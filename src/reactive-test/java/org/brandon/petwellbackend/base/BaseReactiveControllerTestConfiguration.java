@@ -0,0 +1,148 @@
+package org.brandon.petwellbackend.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.brandon.petwellbackend.common.Mapper;
+import org.brandon.petwellbackend.controller.ReactiveAuthController;
+import org.brandon.petwellbackend.controller.ReactiveUserController;
+import org.brandon.petwellbackend.entity.Role;
+import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.entity.UserRecord;
+import org.brandon.petwellbackend.repository.ReactiveUserRepository;
+import org.brandon.petwellbackend.repository.RoleRepository;
+import org.brandon.petwellbackend.security.JwtConfig;
+import org.brandon.petwellbackend.security.JwtKeyRing;
+import org.brandon.petwellbackend.security.RateLimiter;
+import org.brandon.petwellbackend.security.ReactiveSecurityConfig;
+import org.brandon.petwellbackend.security.RevocationJournal;
+import org.brandon.petwellbackend.service.JwtService;
+import org.brandon.petwellbackend.service.ReactiveAuthService;
+import org.brandon.petwellbackend.service.ReactiveUserService;
+import org.brandon.petwellbackend.service.impl.JwtServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.brandon.petwellbackend.enums.RoleType.ADMIN;
+import static org.brandon.petwellbackend.enums.RoleType.MANAGER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * WebFlux slice of the reactive build: both controllers, the security chain, the rate-limited
+ * handler mapping and the exception handler, with the services, the rate limiter and the R2DBC
+ * repository mocked. Access tokens are signed and verified
+ * with the real {@link JwtService}.
+ */
+@WebFluxTest(controllers = {ReactiveUserController.class, ReactiveAuthController.class})
+@Import({ReactiveSecurityConfig.class, Mapper.class, BaseReactiveControllerTestConfiguration.JwtTestConfiguration.class})
+public abstract class BaseReactiveControllerTestConfiguration {
+    private static final String SECRET_KEY = "a86e7e2786d280e6b5b1f75776dff7e8a18a41cf989304cb5fb0e58522eaadca";
+
+    @Autowired
+    protected WebTestClient webTestClient;
+
+    @Autowired
+    protected JwtService jwtService;
+
+    @MockBean
+    protected ReactiveUserService reactiveUserService;
+
+    @MockBean
+    protected ReactiveAuthService reactiveAuthService;
+
+    @MockBean
+    protected ReactiveUserRepository reactiveUserRepository;
+
+    @MockBean
+    protected RevocationJournal revocationJournal;
+
+    @MockBean
+    protected PasswordEncoder passwordEncoder;
+
+    @MockBean
+    protected RateLimiter rateLimiter;
+
+    /**
+     * Seeded by the runner declared on the application class, which the slice still loads.
+     */
+    @MockBean
+    private RoleRepository roleRepository;
+
+    protected UserEntity mockAdmin;
+
+    protected UserEntity mockManager;
+
+    protected String mockAdminToken;
+
+    protected String mockManagerToken;
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void beforeEach() {
+        mockAdmin = UserEntity.builder()
+                .userID(UUID.randomUUID().toString())
+                .firstname("Brandon")
+                .lastname("Bryan")
+                .email("brandon@petwell.com")
+                .password("password")
+                .role(Role.builder().roleType(ADMIN).build())
+                .build();
+
+        mockManager = UserEntity.builder()
+                .userID(UUID.randomUUID().toString())
+                .firstname("Arantxa")
+                .lastname("Leon")
+                .email("arantxa@petwell.com")
+                .password("password")
+                .role(Role.builder().roleType(MANAGER).build())
+                .build();
+
+        mockAdminToken = "Bearer ".concat(jwtService.generateJwtToken(mockAdmin));
+        mockManagerToken = "Bearer ".concat(jwtService.generateJwtToken(mockManager));
+
+        when(reactiveUserRepository.findByEmail(mockAdmin.getEmail())).thenReturn(Mono.just(toUserRecord(mockAdmin)));
+        when(reactiveUserRepository.findByEmail(mockManager.getEmail())).thenReturn(Mono.just(toUserRecord(mockManager)));
+        when(rateLimiter.tryConsume(any(), any(), any(), any())).thenReturn(Duration.ZERO);
+    }
+
+    protected static UserRecord toUserRecord(UserEntity userEntity) {
+        return UserRecord.builder()
+                .userID(userEntity.getUserID())
+                .firstname(userEntity.getFirstname())
+                .lastname(userEntity.getLastname())
+                .email(userEntity.getEmail())
+                .roleType(userEntity.getRole().getRoleType().name())
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(true)
+                .isCredentialsNonExpired(true)
+                .isEnabled(true)
+                .tokenVersion(userEntity.getTokenVersion())
+                .build();
+    }
+
+    @TestConfiguration
+    static class JwtTestConfiguration {
+
+        @Bean
+        JwtServiceImpl jwtService() {
+            JwtConfig jwtConfig = new JwtConfig();
+            jwtConfig.setSecretKey(SECRET_KEY);
+            JwtServiceImpl jwtService = new JwtServiceImpl(new JwtKeyRing(jwtConfig));
+            jwtService.setSecretKey(SECRET_KEY);
+            jwtService.setTokenExpiration(3600);
+            jwtService.setRefreshTokenExpiration(1209600);
+            return jwtService;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package org.brandon.petwellbackend.controller;
+
+import org.brandon.petwellbackend.base.BaseReactiveControllerTestConfiguration;
+import org.brandon.petwellbackend.domain.RefreshedSession;
+import org.brandon.petwellbackend.entity.Role;
+import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.exception.ApplicationException;
+import org.brandon.petwellbackend.exception.EntityAlreadyExistsException;
+import org.brandon.petwellbackend.exception.RateLimitExceededException;
+import org.brandon.petwellbackend.payload.Response;
+import org.brandon.petwellbackend.payload.UserDTO;
+import org.brandon.petwellbackend.payload.UserLoginRequest;
+import org.brandon.petwellbackend.payload.UserRegistrationRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.brandon.petwellbackend.enums.RoleType.ADMIN;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+class ReactiveAuthControllerTest extends BaseReactiveControllerTestConfiguration {
+    private static final String BASE_AUTH_URL = "/api/v1/auth/users";
+
+    private UserDTO userDTO;
+
+    private UserEntity userEntity;
+
+    @BeforeEach
+    void setUp() {
+        userEntity = UserEntity.builder()
+                .userID(UUID.randomUUID().toString())
+                .firstname("John")
+                .lastname("Doe")
+                .email("john@petwell.com")
+                .password("password123")
+                .role(Role.builder().roleType(ADMIN).build())
+                .build();
+
+        userDTO = UserDTO.builder()
+                .userID(userEntity.getUserID())
+                .firstname("John")
+                .lastname("Doe")
+                .email("john@petwell.com")
+                .role("Admin")
+                .build();
+    }
+
+    @Test
+    void should_CreateUser_When_ValidRegistrationDetailsProvided() throws Exception {
+        // Arrange
+        UserRegistrationRequest registrationDTO = UserRegistrationRequest.builder()
+                .firstname("John")
+                .lastname("Doe")
+                .email("john@petwell.com")
+                .password("password123")
+                .build();
+
+        String expectedJsonResponse = objectMapper.writeValueAsString(Response.success(userDTO, HttpStatus.CREATED));
+        when(reactiveAuthService.registerUser(registrationDTO))
+                .thenReturn(Mono.just(new RefreshedSession(userEntity, "refresh-token")));
+
+        // Act & Assert
+        webTestClient.post().uri(BASE_AUTH_URL + "/register")
+                .contentType(APPLICATION_JSON)
+                .bodyValue(registrationDTO)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectCookie().exists("access_token")
+                .expectCookie().valueEquals("refresh_token", "refresh-token")
+                .expectBody().json(expectedJsonResponse);
+    }
+
+    @Test
+    void should_ReturnConflictStatus_When_RegisteringUserWithExistingEmail() {
+        // Arrange
+        UserRegistrationRequest registrationDTO = UserRegistrationRequest.builder()
+                .firstname("John")
+                .lastname("Doe")
+                .email("john@example.com")
+                .password("password123")
+                .build();
+
+        when(reactiveAuthService.registerUser(registrationDTO))
+                .thenReturn(Mono.error(new EntityAlreadyExistsException("User with email " + registrationDTO.email() + " already exists",
+                        registrationDTO.email())));
+
+        // Act & Assert
+        webTestClient.post().uri(BASE_AUTH_URL + "/register")
+                .contentType(APPLICATION_JSON)
+                .bodyValue(registrationDTO)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    void should_ReturnTooManyRequestsWithRetryAfter_When_RegistrationRateLimited() {
+        // Arrange
+        UserRegistrationRequest registrationDTO = UserRegistrationRequest.builder()
+                .firstname("John")
+                .lastname("Doe")
+                .email("john@petwell.com")
+                .password("password123")
+                .build();
+
+        when(rateLimiter.tryConsume(eq("POST"), eq(BASE_AUTH_URL + "/register"), any(), any()))
+                .thenReturn(Duration.ofSeconds(90));
+
+        // Act & Assert
+        webTestClient.post().uri(BASE_AUTH_URL + "/register")
+                .contentType(APPLICATION_JSON)
+                .bodyValue(registrationDTO)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "90")
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Rate limit exceeded.");
+        verifyNoInteractions(reactiveAuthService);
+    }
+
+    @Test
+    void should_SetTokenCookies_When_LoginSucceeds() {
+        // Arrange
+        UserLoginRequest loginRequest = new UserLoginRequest("john@petwell.com", "password123");
+        when(reactiveAuthService.login(eq(loginRequest), any()))
+                .thenReturn(Mono.just(new RefreshedSession(userEntity, "refresh-token")));
+
+        // Act & Assert
+        webTestClient.post().uri(BASE_AUTH_URL + "/login")
+                .contentType(APPLICATION_JSON)
+                .bodyValue(loginRequest)
+                .exchange()
+                .expectStatus().isOk()
+                .expectCookie().exists("access_token")
+                .expectCookie().valueEquals("refresh_token", "refresh-token")
+                .expectCookie().sameSite("refresh_token", "Strict")
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Success");
+    }
+
+    @Test
+    void should_ReturnUnauthorizedStatus_When_LoginRejected() {
+        // Arrange
+        UserLoginRequest loginRequest = new UserLoginRequest("john@petwell.com", "wrong-password");
+        when(reactiveAuthService.login(eq(loginRequest), any()))
+                .thenReturn(Mono.error(new ApplicationException(HttpStatus.UNAUTHORIZED, "Not authorized")));
+
+        // Act & Assert
+        webTestClient.post().uri(BASE_AUTH_URL + "/login")
+                .contentType(APPLICATION_JSON)
+                .bodyValue(loginRequest)
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectCookie().doesNotExist("access_token");
+    }
+
+    @Test
+    void should_ReturnTooManyRequestsWithRetryAfter_When_LoginLockedOut() {
+        // Arrange
+        UserLoginRequest loginRequest = new UserLoginRequest("john@petwell.com", "password123");
+        when(reactiveAuthService.login(eq(loginRequest), any()))
+                .thenReturn(Mono.error(new RateLimitExceededException("Too many failed login attempts", Duration.ofSeconds(30))));
+
+        // Act & Assert
+        webTestClient.post().uri(BASE_AUTH_URL + "/login")
+                .contentType(APPLICATION_JSON)
+                .bodyValue(loginRequest)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "30")
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Too many failed login attempts");
+    }
+
+    @Test
+    void should_ReturnUnauthorizedStatus_When_RefreshTokenUnknown() {
+        // Arrange
+        String refreshToken = UUID.randomUUID().toString();
+        when(reactiveAuthService.refreshSession(refreshToken))
+                .thenReturn(Mono.error(new ApplicationException(HttpStatus.UNAUTHORIZED, "Not authorized")));
+
+        // Act & Assert
+        webTestClient.post().uri("/api/v1/auth/token/refresh")
+                .cookie("refresh_token", refreshToken)
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectCookie().doesNotExist("access_token");
+    }
+
+    @Test
+    void should_ReturnUnauthorizedStatus_When_RefreshCookieMissing() {
+        // Act & Assert
+        webTestClient.post().uri("/api/v1/auth/token/refresh")
+                .exchange()
+                .expectStatus().isUnauthorized();
+        verifyNoInteractions(reactiveAuthService);
+    }
+
+    @Test
+    void should_RotateTokenCookies_When_RefreshTokenValid() {
+        // Arrange
+        when(reactiveAuthService.refreshSession("refresh-token"))
+                .thenReturn(Mono.just(new RefreshedSession(userEntity, "rotated-refresh-token")));
+
+        // Act & Assert
+        webTestClient.post().uri("/api/v1/auth/token/refresh")
+                .cookie("refresh_token", "refresh-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectCookie().exists("access_token")
+                .expectCookie().valueEquals("refresh_token", "rotated-refresh-token");
+    }
+
+    @Test
+    void should_RevokeTokensAndClearRefreshCookie_When_LoggedOut() {
+        // Arrange
+        when(reactiveAuthService.logout(eq("refresh-token"), eq(mockAdminToken), any())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        webTestClient.post().uri("/api/v1/auth/logout")
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken)
+                .cookie("refresh_token", "refresh-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectCookie().maxAge("refresh_token", Duration.ZERO);
+        verify(reactiveAuthService, times(1)).logout(eq("refresh-token"), eq(mockAdminToken), any());
+    }
+
+    @Test
+    void should_NotSetRefreshCookie_When_LoggedOutWithoutOne() {
+        // Arrange
+        when(reactiveAuthService.logout(isNull(), isNull(), any())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        webTestClient.get().uri("/api/v1/auth/logout")
+                .exchange()
+                .expectStatus().isOk()
+                .expectCookie().doesNotExist("refresh_token");
+    }
+
+    @Test
+    void should_ReturnTrue_When_EmailAlreadyRegistered() {
+        // Arrange
+        when(reactiveAuthService.isEmailAlreadyRegistered("john@petwell.com")).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        webTestClient.get().uri(BASE_AUTH_URL + "/{email}", "john@petwell.com")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data").isEqualTo(true);
+    }
+}
@@ -0,0 +1,281 @@
+package org.brandon.petwellbackend.controller;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.brandon.petwellbackend.base.BaseReactiveControllerTestConfiguration;
+import org.brandon.petwellbackend.domain.ResourceVersion;
+import org.brandon.petwellbackend.exception.EntityNotFoundException;
+import org.brandon.petwellbackend.payload.Response;
+import org.brandon.petwellbackend.payload.UserBatch;
+import org.brandon.petwellbackend.payload.UserDTO;
+import org.brandon.petwellbackend.payload.UserStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.brandon.petwellbackend.enums.RoleType.ADMIN;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+class ReactiveUserControllerTest extends BaseReactiveControllerTestConfiguration {
+    private static final String BASE_URL = "/api/v1/users";
+
+    private UserDTO userDTO;
+
+    @BeforeEach
+    void setUp() {
+        userDTO = UserDTO.builder()
+                .userID(UUID.randomUUID().toString())
+                .firstname("John")
+                .lastname("Doe")
+                .email("john@petwell.com")
+                .role("Admin")
+                .build();
+
+        when(reactiveUserService.getAllUsersVersion()).thenReturn(Mono.empty());
+        when(reactiveUserService.getUserVersion(anyString())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    void should_ReturnListOfUserDTOs_When_AllUsersRequested() {
+        when(reactiveUserService.getAllUsers())
+                .thenReturn(Mono.just(List.of(userDTO)));
+
+        webTestClient.get().uri(BASE_URL)
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.data.[0].first_name").isEqualTo(userDTO.firstname())
+                .jsonPath("$.data.[0].last_name").isEqualTo(userDTO.lastname())
+                .jsonPath("$.data.[0].email").isEqualTo(userDTO.email());
+    }
+
+    @Test
+    void should_ReturnUserDTO_When_GivenValidUserID() {
+        String id = UUID.randomUUID().toString();
+
+        when(reactiveUserService.getUserByUserID(id))
+                .thenReturn(Mono.just(userDTO));
+
+        webTestClient.get().uri(BASE_URL + "/{id}", id)
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.data.first_name").isEqualTo(userDTO.firstname())
+                .jsonPath("$.data.last_name").isEqualTo(userDTO.lastname())
+                .jsonPath("$.data.email").isEqualTo(userDTO.email());
+    }
+
+    @Test
+    void should_ReturnOnlyRequestedFields_When_FieldsGiven() {
+        String id = UUID.randomUUID().toString();
+
+        when(reactiveUserService.getUserByUserID(id, "user_id,first_name"))
+                .thenReturn(Mono.just(Map.of("user_id", id, "first_name", "John")));
+
+        webTestClient.get().uri(uri -> uri.path(BASE_URL + "/{id}").queryParam("fields", "user_id,first_name").build(id))
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.user_id").isEqualTo(id)
+                .jsonPath("$.data.first_name").isEqualTo("John")
+                .jsonPath("$.data.email").doesNotExist();
+        verify(reactiveUserService, never()).getUserByUserID(id);
+    }
+
+    @Test
+    void should_ReturnUsersAndMissingIDs_When_BatchRequested() throws Exception {
+        when(reactiveUserService.getUsersByUserIDs(List.of(userDTO.userID(), "unknown")))
+                .thenReturn(Mono.just(new UserBatch(List.of(userDTO), List.of("unknown"))));
+
+        webTestClient.post().uri(BASE_URL + "/batch")
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken)
+                .contentType(APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(Map.of("user_ids", List.of(userDTO.userID(), "unknown"))))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.users[0].user_id").isEqualTo(userDTO.userID())
+                .jsonPath("$.data.missing_ids[0]").isEqualTo("unknown");
+    }
+
+    @Test
+    void should_ReturnUserStats_When_StatsRequested() {
+        UserStats userStats = new UserStats(3, 3, 1, Map.of(ADMIN, 3L),
+                List.of(new UserStats.DailyRegistrations(LocalDate.now(), 2)), Instant.now());
+
+        when(reactiveUserService.getUserStats(7))
+                .thenReturn(Mono.just(userStats));
+
+        webTestClient.get().uri(uri -> uri.path(BASE_URL + "/stats").queryParam("days", "7").build())
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.total_users").isEqualTo(3)
+                .jsonPath("$.data.locked_users").isEqualTo(1)
+                .jsonPath("$.data.users_by_role.ADMIN").isEqualTo(3)
+                .jsonPath("$.data.registrations_per_day[0].registrations").isEqualTo(2);
+    }
+
+    @Test
+    void should_ReturnCborEnvelope_When_CborAccepted() throws IOException {
+        String id = UUID.randomUUID().toString();
+        MediaType cbor = MediaType.parseMediaType("application/cbor");
+
+        when(reactiveUserService.getUserByUserID(id))
+                .thenReturn(Mono.just(userDTO));
+
+        byte[] body = webTestClient.get().uri(BASE_URL + "/{id}", id)
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken)
+                .accept(cbor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(cbor)
+                .expectBody(byte[].class)
+                .returnResult().getResponseBody();
+        assertNotNull(body);
+        Response<?> decoded = new CBORMapper().readValue(body, Response.class);
+        assertEquals(userDTO.email(), ((Map<?, ?>) decoded.getData()).get("email"));
+    }
+
+    @Test
+    void should_ReturnNotModified_When_ETagMatchesCurrentUserVersion() {
+        String id = UUID.randomUUID().toString();
+        ResourceVersion version = ResourceVersion.of(LocalDateTime.now());
+
+        when(reactiveUserService.getUserVersion(id)).thenReturn(Mono.just(version));
+
+        webTestClient.get().uri(BASE_URL + "/{id}", id)
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken)
+                .header(HttpHeaders.IF_NONE_MATCH, version.eTag())
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, version.eTag())
+                .expectHeader().values(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT))
+                .expectBody().isEmpty();
+        verify(reactiveUserService, never()).getUserByUserID(id);
+    }
+
+    @Test
+    void should_UpdateUser_When_GivenValidUserIdAndUserDto() {
+        String id = UUID.randomUUID().toString();
+
+        when(reactiveUserService.updateUser(id, userDTO)).thenReturn(Mono.just(userDTO));
+
+        webTestClient.put().uri(BASE_URL + "/{id}", id)
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken)
+                .contentType(APPLICATION_JSON)
+                .bodyValue(userDTO)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Success");
+    }
+
+    @Test
+    void should_DeleteUser_When_GivenValidUserId() {
+        String id = UUID.randomUUID().toString();
+
+        when(reactiveUserService.deleteUser(id)).thenReturn(Mono.empty());
+
+        webTestClient.delete().uri(BASE_URL + "/{id}", id)
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Success");
+    }
+
+    @Test
+    void should_ReturnForbiddenStatus_When_ManagerDeletesUser() {
+        String id = UUID.randomUUID().toString();
+
+        webTestClient.delete().uri(BASE_URL + "/{id}", id)
+                .header(HttpHeaders.AUTHORIZATION, mockManagerToken)
+                .exchange()
+                .expectStatus().isForbidden();
+        verify(reactiveUserService, never()).deleteUser(id);
+    }
+
+    @Test
+    void should_RevokeAllSessions_When_GivenValidUserId() {
+        String id = UUID.randomUUID().toString();
+
+        when(reactiveUserService.revokeAllSessions(id)).thenReturn(Mono.empty());
+
+        webTestClient.delete().uri(BASE_URL + "/{id}/sessions", id)
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Success");
+        verify(reactiveUserService, times(1)).revokeAllSessions(id);
+    }
+
+    @Test
+    void should_ReturnUnauthorizedStatus_When_TokenGenerationRevoked() {
+        mockAdmin.setTokenVersion(1);
+        when(reactiveUserRepository.findByEmail(mockAdmin.getEmail())).thenReturn(Mono.just(toUserRecord(mockAdmin)));
+
+        webTestClient.get().uri(BASE_URL)
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken)
+                .exchange()
+                .expectStatus().isUnauthorized();
+        verify(reactiveUserService, never()).getAllUsers();
+    }
+
+    @Test
+    void should_LimitPerUser_When_UserListRequested() {
+        when(reactiveUserService.getAllUsers())
+                .thenReturn(Mono.just(List.of(userDTO)));
+
+        webTestClient.get().uri(BASE_URL)
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken)
+                .exchange()
+                .expectStatus().isOk();
+        verify(rateLimiter, times(1)).tryConsume(eq("GET"), eq(BASE_URL),
+                argThat(authentication -> mockAdmin.getEmail().equals(authentication.getName())), any());
+    }
+
+    @Test
+    void should_ReturnUnauthorizedStatus_When_AccessTokenMissing() {
+        webTestClient.get().uri(BASE_URL)
+                .exchange()
+                .expectStatus().isUnauthorized();
+        verify(reactiveUserService, never()).getAllUsers();
+    }
+
+    @Test
+    void should_ReturnNotFoundStatus_When_GivenInvalidUserId() {
+        String invalidId = UUID.randomUUID().toString();
+
+        when(reactiveUserService.getUserByUserID(invalidId))
+                .thenReturn(Mono.error(new EntityNotFoundException(String.format("Could not find employee: %s", invalidId), invalidId)));
+
+        webTestClient.get().uri(BASE_URL + "/{id}", invalidId)
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,195 @@
+package org.brandon.petwellbackend.service;
+
+import com.google.common.hash.HashCode;
+import io.jsonwebtoken.Claims;
+import org.brandon.petwellbackend.audit.AuditEventPublisher;
+import org.brandon.petwellbackend.cache.CacheInvalidationBus;
+import org.brandon.petwellbackend.domain.RefreshedSession;
+import org.brandon.petwellbackend.entity.Role;
+import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.entity.UserRecord;
+import org.brandon.petwellbackend.exception.ApplicationException;
+import org.brandon.petwellbackend.exception.RateLimitExceededException;
+import org.brandon.petwellbackend.exception.ServiceOverloadedException;
+import org.brandon.petwellbackend.payload.UserLoginRequest;
+import org.brandon.petwellbackend.repository.ReactiveUserRepository;
+import org.brandon.petwellbackend.security.LoginAttemptService;
+import org.brandon.petwellbackend.security.RevocationJournal;
+import org.brandon.petwellbackend.security.VerifiedTokenCache;
+import org.brandon.petwellbackend.service.impl.ReactiveAuthServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.brandon.petwellbackend.enums.AuditEventType.*;
+import static org.brandon.petwellbackend.enums.RoleType.ADMIN;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReactiveAuthServiceTest {
+    private static final String SOURCE = "203.0.113.7";
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private AuthenticationProvider authenticationProvider;
+
+    @Mock
+    private LoginAttemptService loginAttemptService;
+
+    @Mock
+    private AuditEventPublisher auditEventPublisher;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private ReactiveUserRepository reactiveUserRepository;
+
+    @Mock
+    private RevocationJournal revocationJournal;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private ReactiveAuthService reactiveAuthService;
+
+    private UserEntity userEntity;
+
+    private UserLoginRequest loginRequest;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        reactiveAuthService = new ReactiveAuthServiceImpl(userService, refreshTokenService, authenticationProvider,
+                loginAttemptService, auditEventPublisher, jwtService, reactiveUserRepository,
+                revocationJournal, verifiedTokenCache, cacheInvalidationBus);
+
+        userEntity = UserEntity.builder()
+                .userID(UUID.randomUUID().toString())
+                .firstname("John")
+                .lastname("Doe")
+                .email("john@petwell.com")
+                .password("password123")
+                .role(Role.builder().roleType(ADMIN).build())
+                .build();
+        loginRequest = new UserLoginRequest(userEntity.getEmail(), "password123");
+
+        when(loginAttemptService.getRemainingLockout(anyString(), any())).thenReturn(Duration.ZERO);
+    }
+
+    @Test
+    void should_IssueSessionAndAuditLogin_When_CredentialsValid() {
+        // Arrange
+        when(authenticationProvider.authenticate(any()))
+                .thenReturn(UsernamePasswordAuthenticationToken.authenticated(userEntity, null, userEntity.getAuthorities()));
+        when(refreshTokenService.issueRefreshToken(userEntity)).thenReturn("refresh-token");
+
+        // Act
+        RefreshedSession session = reactiveAuthService.login(loginRequest, SOURCE).block();
+
+        // Assert
+        assertNotNull(session);
+        assertEquals(userEntity, session.user());
+        assertEquals("refresh-token", session.refreshToken());
+
+        verify(loginAttemptService, times(1)).loginSucceeded(userEntity.getEmail());
+        verify(auditEventPublisher, times(1)).publish(LOGIN, userEntity.getEmail(), userEntity.getUserID(), SOURCE);
+    }
+
+    @Test
+    void should_RecordFailedAttemptAndReject_When_PasswordWrong() {
+        // Arrange
+        when(authenticationProvider.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        // Act & Assert
+        ApplicationException e = assertThrows(ApplicationException.class,
+                () -> reactiveAuthService.login(loginRequest, SOURCE).block());
+        assertEquals(HttpStatus.UNAUTHORIZED, e.getHttpStatus());
+
+        verify(loginAttemptService, times(1)).loginFailed(userEntity.getEmail(), SOURCE);
+        verify(auditEventPublisher, times(1)).publish(LOGIN_FAILED, userEntity.getEmail(), null, SOURCE);
+        verifyNoInteractions(refreshTokenService);
+    }
+
+    @Test
+    void should_NotHashPassword_When_LockedOut() {
+        // Arrange
+        when(loginAttemptService.getRemainingLockout(userEntity.getEmail(), SOURCE)).thenReturn(Duration.ofMinutes(5));
+
+        // Act & Assert
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class,
+                () -> reactiveAuthService.login(loginRequest, SOURCE).block());
+        assertEquals(Duration.ofMinutes(5), e.getRetryAfter());
+
+        verifyNoInteractions(authenticationProvider);
+    }
+
+    @Test
+    void should_PropagateOverload_When_PasswordHashNotAdmitted() {
+        // Arrange
+        ServiceOverloadedException overloaded = new ServiceOverloadedException("Too many concurrent logins", Duration.ofSeconds(1));
+        when(authenticationProvider.authenticate(any()))
+                .thenThrow(new InternalAuthenticationServiceException(overloaded.getMessage(), overloaded));
+
+        // Act & Assert
+        assertThrows(ServiceOverloadedException.class, () -> reactiveAuthService.login(loginRequest, SOURCE).block());
+
+        verify(loginAttemptService, never()).loginFailed(anyString(), any());
+    }
+
+    @Test
+    void should_RevokeRefreshAndAccessToken_When_LoggedOut() {
+        // Arrange
+        Claims claims = mock(Claims.class);
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        HashCode tokenDigest = HashCode.fromInt(42);
+        when(claims.getSubject()).thenReturn(userEntity.getEmail());
+        when(claims.getExpiration()).thenReturn(expiration);
+        when(jwtService.extractClaim("access-token")).thenReturn(claims);
+        when(revocationJournal.revoke(claims, "access-token")).thenReturn(tokenDigest);
+        when(reactiveUserRepository.findByEmail(userEntity.getEmail())).thenReturn(Mono.just(UserRecord.builder()
+                .userID(userEntity.getUserID())
+                .email(userEntity.getEmail())
+                .build()));
+
+        // Act
+        reactiveAuthService.logout("refresh-token", "Bearer access-token", SOURCE).block();
+
+        // Assert
+        verify(refreshTokenService, times(1)).revokeRefreshToken("refresh-token");
+        verify(verifiedTokenCache, times(1)).evict("access-token");
+        verify(cacheInvalidationBus, times(1))
+                .publishTokenRevoked(userEntity.getEmail(), tokenDigest, expiration.toInstant().getEpochSecond());
+        verify(auditEventPublisher, times(1)).publish(LOGOUT, userEntity.getEmail(), userEntity.getUserID(), SOURCE);
+    }
+
+    @Test
+    void should_OnlyRevokeRefreshToken_When_LoggedOutWithoutAccessToken() {
+        // Act
+        reactiveAuthService.logout("refresh-token", null, SOURCE).block();
+
+        // Assert
+        verify(refreshTokenService, times(1)).revokeRefreshToken("refresh-token");
+        verifyNoInteractions(jwtService, revocationJournal, cacheInvalidationBus, auditEventPublisher);
+    }
+}
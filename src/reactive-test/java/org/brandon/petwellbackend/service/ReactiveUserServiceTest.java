@@ -0,0 +1,88 @@
+package org.brandon.petwellbackend.service;
+
+import org.brandon.petwellbackend.exception.EntityNotFoundException;
+import org.brandon.petwellbackend.payload.UserDTO;
+import org.brandon.petwellbackend.repository.ReactiveUserRepository;
+import org.brandon.petwellbackend.service.impl.ReactiveUserServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReactiveUserServiceTest {
+    @Mock
+    private ReactiveUserRepository reactiveUserRepository;
+
+    @Mock
+    private UserService userService;
+
+    private ReactiveUserService reactiveUserService;
+
+    private UserDTO userDTO;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        reactiveUserService = new ReactiveUserServiceImpl(reactiveUserRepository, userService);
+        userDTO = UserDTO.builder()
+                .userID(UUID.randomUUID().toString())
+                .firstname("John")
+                .lastname("Doe")
+                .email("john@petwell.com")
+                .role("Admin")
+                .build();
+    }
+
+    @Test
+    void should_UpdateThroughUserServiceAsCaller_When_UserUpdated() {
+        // Arrange
+        Authentication caller = new TestingAuthenticationToken("brandon@petwell.com", null, "admin:update");
+        AtomicReference<Authentication> actor = new AtomicReference<>();
+        when(userService.updateUser(userDTO.userID(), userDTO)).thenAnswer(_ -> {
+            actor.set(SecurityContextHolder.getContext().getAuthentication());
+            return userDTO;
+        });
+
+        // Act
+        UserDTO updatedUser = reactiveUserService.updateUser(userDTO.userID(), userDTO)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(caller))
+                .block();
+
+        // Assert
+        assertEquals(userDTO, updatedUser);
+        assertEquals(caller, actor.get());
+
+        verify(userService, times(1)).updateUser(userDTO.userID(), userDTO);
+        verifyNoInteractions(reactiveUserRepository);
+    }
+
+    @Test
+    void should_DeleteThroughUserService_When_UserDeleted() {
+        // Act
+        reactiveUserService.deleteUser(userDTO.userID()).block();
+
+        // Assert
+        verify(userService, times(1)).deleteUser(userDTO.userID());
+        verifyNoInteractions(reactiveUserRepository);
+    }
+
+    @Test
+    void should_PropagateEntityNotFoundException_When_DeletedUserNotFound() {
+        // Arrange
+        doThrow(new EntityNotFoundException("Could not find user: " + userDTO.userID(), userDTO.userID()))
+                .when(userService).deleteUser(userDTO.userID());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> reactiveUserService.deleteUser(userDTO.userID()).block());
+    }
+}
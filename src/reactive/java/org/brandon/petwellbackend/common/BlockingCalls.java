@@ -0,0 +1,51 @@
+package org.brandon.petwellbackend.common;
+
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * Calls into the blocking services that both builds share, off the event loop. The caller's reactive
+ * security context is bound to the worker thread for the duration of the call, so audit events and
+ * JPA auditing record the same actor as on the servlet build.
+ */
+public final class BlockingCalls {
+
+    private BlockingCalls() {
+    }
+
+    /**
+     * @return the result of the call, empty if it returned null
+     */
+    public static <T> Mono<T> call(Callable<T> callable) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(securityContext -> Mono.fromCallable(() -> callWithSecurityContext(securityContext, callable))
+                        .subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    public static Mono<Void> run(Runnable runnable) {
+        return call(() -> {
+            runnable.run();
+            return null;
+        }).then();
+    }
+
+    private static <T> T callWithSecurityContext(Optional<SecurityContext> securityContext, Callable<T> callable) throws Exception {
+        if (securityContext.isEmpty()) {
+            return callable.call();
+        }
+        SecurityContextHolder.setContext(securityContext.get());
+        try {
+            return callable.call();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.brandon.petwellbackend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * Runtime wiring for the reactive build, where the servlet and JPA stack are still on the classpath.
+ * <p>
+ * Boot skips its {@code DataSource} once an R2DBC connection factory exists, but JPA still owns the
+ * schema, the seed data, the scheduled jobs and every write, so the JDBC pool is declared here
+ * explicitly. Requests are served by Netty: reads go through R2DBC, writes through the shared blocking
+ * services on the bounded elastic scheduler.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveRuntimeConfig {
+
+    @Bean
+    NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Bound through the {@link Binder} rather than {@code @ConfigurationProperties}, which
+     * {@link org.brandon.petwellbackend.datasource.ReplicaDataSourceConfig} already declares for the same
+     * prefix.
+     */
+    @Bean
+    HikariDataSource dataSource(DataSourceProperties dataSourceProperties, Environment environment) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        return Binder.get(environment)
+                .bind("spring.datasource.hikari", Bindable.ofInstance(dataSource))
+                .orElse(dataSource);
+    }
+
+    /**
+     * Boot only derives these from the properties along with its own {@code DataSource}. The cache
+     * invalidation listener opens its connection from them.
+     */
+    @Bean
+    JdbcConnectionDetails jdbcConnectionDetails(DataSourceProperties dataSourceProperties) {
+        return new JdbcConnectionDetails() {
+            @Override
+            public String getUsername() {
+                return dataSourceProperties.determineUsername();
+            }
+
+            @Override
+            public String getPassword() {
+                return dataSourceProperties.determinePassword();
+            }
+
+            @Override
+            public String getJdbcUrl() {
+                return dataSourceProperties.determineUrl();
+            }
+
+            @Override
+            public String getDriverClassName() {
+                return dataSourceProperties.determineDriverClassName();
+            }
+        };
+    }
+
+    /**
+     * Primary so that {@code @Transactional} on the JPA services does not have to choose between
+     * this and the R2DBC transaction manager.
+     */
+    @Bean
+    @Primary
+    JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
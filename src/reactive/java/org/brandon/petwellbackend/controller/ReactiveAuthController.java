@@ -0,0 +1,103 @@
+package org.brandon.petwellbackend.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.common.Mapper;
+import org.brandon.petwellbackend.domain.RefreshedSession;
+import org.brandon.petwellbackend.exception.ApplicationException;
+import org.brandon.petwellbackend.payload.Response;
+import org.brandon.petwellbackend.payload.UserDTO;
+import org.brandon.petwellbackend.payload.UserLoginRequest;
+import org.brandon.petwellbackend.payload.UserRegistrationRequest;
+import org.brandon.petwellbackend.service.JwtService;
+import org.brandon.petwellbackend.service.ReactiveAuthService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+import static org.brandon.petwellbackend.service.impl.JwtServiceImpl.REFRESH_TOKEN_COOKIE;
+
+/**
+ * WebFlux counterpart of the {@code /api/v1/auth} endpoints. On the servlet build, login and logout
+ * are handled inside the security chain by {@link org.brandon.petwellbackend.security.LoginFilter}
+ * and {@link org.brandon.petwellbackend.security.CustomLogoutHandler}; here they are plain routes.
+ */
+@RestController
+@RequestMapping("/api/v1/auth")
+@RequiredArgsConstructor
+public class ReactiveAuthController {
+    private final ReactiveAuthService authService;
+    private final JwtService jwtService;
+    private final Mapper mapper;
+
+    @PostMapping("/users/register")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Response<UserDTO>> registerUser(@RequestBody @Valid UserRegistrationRequest request,
+                                                ServerWebExchange exchange) {
+        return authService.registerUser(request)
+                .map(session -> {
+                    addTokenCookies(session, exchange.getResponse());
+                    return Response.success(mapper.toUserDTO(session.user()), HttpStatus.CREATED);
+                });
+    }
+
+    @PostMapping("/users/login")
+    public Mono<Response<?>> login(@RequestBody UserLoginRequest request, ServerWebExchange exchange) {
+        return authService.login(request, remoteAddress(exchange.getRequest()))
+                .map(session -> {
+                    addTokenCookies(session, exchange.getResponse());
+                    return Response.success(null, HttpStatus.OK);
+                });
+    }
+
+    @PostMapping("/token/refresh")
+    public Mono<Response<?>> refreshAccessToken(@CookieValue(name = REFRESH_TOKEN_COOKIE, required = false) String refreshToken,
+                                                ServerWebExchange exchange) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return Mono.error(new ApplicationException(HttpStatus.UNAUTHORIZED, "Not authorized"));
+        }
+        return authService.refreshSession(refreshToken)
+                .map(session -> {
+                    addTokenCookies(session, exchange.getResponse());
+                    return Response.success(null, HttpStatus.OK);
+                });
+    }
+
+    /**
+     * Mapped to the same methods as the servlet build's logout URL.
+     */
+    @RequestMapping(path = "/logout", method = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE})
+    public Mono<Void> logout(@CookieValue(name = REFRESH_TOKEN_COOKIE, required = false) String refreshToken,
+                             @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authHeader,
+                             ServerWebExchange exchange) {
+        if (refreshToken != null) {
+            exchange.getResponse().addCookie(jwtService.createRefreshTokenCookie(null));
+        }
+        return authService.logout(refreshToken, authHeader, remoteAddress(exchange.getRequest()));
+    }
+
+    @GetMapping("/users/{user-email}")
+    public Mono<Response<Boolean>> checkIfEmailAlreadyRegistered(@PathVariable("user-email") String userEmail) {
+        return authService.isEmailAlreadyRegistered(userEmail)
+                .map(registered -> Response.success(registered, HttpStatus.OK));
+    }
+
+    private void addTokenCookies(RefreshedSession session, ServerHttpResponse response) {
+        response.addCookie(jwtService.createAccessTokenCookie(session.user()));
+        response.addCookie(jwtService.createRefreshTokenCookie(session.refreshToken()));
+    }
+
+    private static String remoteAddress(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return null;
+        }
+        return remoteAddress.getAddress().getHostAddress();
+    }
+}
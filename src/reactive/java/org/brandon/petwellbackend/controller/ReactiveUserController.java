@@ -0,0 +1,115 @@
+package org.brandon.petwellbackend.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.domain.ResourceVersion;
+import org.brandon.petwellbackend.payload.Response;
+import org.brandon.petwellbackend.payload.UserBatch;
+import org.brandon.petwellbackend.payload.UserBatchRequest;
+import org.brandon.petwellbackend.payload.UserDTO;
+import org.brandon.petwellbackend.payload.UserSearchPage;
+import org.brandon.petwellbackend.payload.UserStats;
+import org.brandon.petwellbackend.service.ReactiveUserService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * WebFlux counterpart of {@link UserController} for the {@code /api/v1/users} endpoints. The
+ * {@code /api/v1/auth} endpoints are served by {@link ReactiveAuthController}.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class ReactiveUserController {
+    private final ReactiveUserService userService;
+
+    @GetMapping("/users")
+    @PreAuthorize("hasAnyAuthority('admin:read')")
+    public Mono<Response<?>> getAllUsers(@RequestParam(name = "fields", required = false) String fields,
+                                         ServerWebExchange exchange) {
+        return isNotModified(userService.getAllUsersVersion(), exchange)
+                .flatMap(notModified -> {
+                    if (notModified) {
+                        return Mono.empty();
+                    }
+                    if (fields != null) {
+                        return userService.getAllUsers(fields).map(users -> Response.success(users, HttpStatus.OK));
+                    }
+                    return userService.getAllUsers().map(users -> Response.success(users, HttpStatus.OK));
+                });
+    }
+
+    @GetMapping("/users/search")
+    @PreAuthorize("hasAnyAuthority('admin:read')")
+    public Mono<Response<UserSearchPage>> searchUsers(@RequestParam("q") String query,
+                                                      @RequestParam(name = "cursor", required = false) String cursor,
+                                                      @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        return userService.searchUsers(query, cursor, limit)
+                .map(page -> Response.success(page, HttpStatus.OK));
+    }
+
+    @PostMapping("/users/batch")
+    @PreAuthorize("hasAnyAuthority('admin:read')")
+    public Mono<Response<UserBatch>> getUsersByIDs(@RequestBody @Valid UserBatchRequest request) {
+        return userService.getUsersByUserIDs(request.userIDs())
+                .map(batch -> Response.success(batch, HttpStatus.OK));
+    }
+
+    @GetMapping("/users/stats")
+    @PreAuthorize("hasAnyAuthority('admin:read')")
+    public Mono<Response<UserStats>> getUserStats(@RequestParam(name = "days", defaultValue = "30") int days) {
+        return userService.getUserStats(days)
+                .map(stats -> Response.success(stats, HttpStatus.OK));
+    }
+
+    @GetMapping("/users/{user-id}")
+    @PreAuthorize("hasAnyAuthority('admin:read')")
+    public Mono<Response<?>> getUserByID(@PathVariable("user-id") String userID,
+                                         @RequestParam(name = "fields", required = false) String fields,
+                                         ServerWebExchange exchange) {
+        return isNotModified(userService.getUserVersion(userID), exchange)
+                .flatMap(notModified -> {
+                    if (notModified) {
+                        return Mono.empty();
+                    }
+                    if (fields != null) {
+                        return userService.getUserByUserID(userID, fields).map(user -> Response.success(user, HttpStatus.OK));
+                    }
+                    return userService.getUserByUserID(userID).map(user -> Response.success(user, HttpStatus.OK));
+                });
+    }
+
+    @PutMapping("/users/{user-id}")
+    @PreAuthorize("hasAnyAuthority('admin:update')")
+    public Mono<Response<UserDTO>> updateUser(@PathVariable("user-id") String userID, @RequestBody @Valid UserDTO userDto) {
+        return userService.updateUser(userID, userDto)
+                .map(user -> Response.success(user, HttpStatus.OK));
+    }
+
+    @DeleteMapping("/users/{user-id}")
+    @PreAuthorize("hasAnyAuthority('admin:delete')")
+    public Mono<Response<?>> deleteUser(@PathVariable("user-id") String userID) {
+        return userService.deleteUser(userID)
+                .then(Mono.fromSupplier(() -> Response.success(null, HttpStatus.OK)));
+    }
+
+    @DeleteMapping("/users/{user-id}/sessions")
+    @PreAuthorize("hasAnyAuthority('admin:update')")
+    public Mono<Response<?>> revokeAllSessions(@PathVariable("user-id") String userID) {
+        return userService.revokeAllSessions(userID)
+                .then(Mono.fromSupplier(() -> Response.success(null, HttpStatus.OK)));
+    }
+
+    private static Mono<Boolean> isNotModified(Mono<ResourceVersion> version, ServerWebExchange exchange) {
+        exchange.getResponse().getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        return version
+                .map(v -> exchange.checkNotModified(v.eTag(), Instant.ofEpochMilli(v.lastModified())))
+                .defaultIfEmpty(false);
+    }
+}
@@ -0,0 +1,37 @@
+package org.brandon.petwellbackend.entity;
+
+import lombok.Builder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC view of a row in the {@code employees} table created by {@link UserEntity}, joined with the
+ * type of the user's role.
+ */
+@Builder
+@Table("employees")
+public record UserRecord(
+        @Id
+        Long id,
+        @Column("userid")
+        String userID,
+        @Column("first_name")
+        String firstname,
+        @Column("last_name")
+        String lastname,
+        String email,
+        @ReadOnlyProperty
+        @Column("role_type")
+        String roleType,
+        boolean isAccountNonExpired,
+        boolean isAccountNonLocked,
+        boolean isCredentialsNonExpired,
+        boolean isEnabled,
+        int tokenVersion,
+        LocalDateTime updatedAt
+) {
+}
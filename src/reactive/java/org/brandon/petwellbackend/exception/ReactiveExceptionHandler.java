@@ -0,0 +1,110 @@
+package org.brandon.petwellbackend.exception;
+
+import io.jsonwebtoken.JwtException;
+import org.brandon.petwellbackend.payload.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * WebFlux counterpart of {@link GlobalExceptionHandler}, producing the same error envelope.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+
+    @ExceptionHandler(EntityAlreadyExistsException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Response<Object> handleEntityAlreadyExistsException(ServerHttpRequest req, EntityAlreadyExistsException e) {
+        LOGGER.debug(e.getMessage());
+        return Response.error(HttpStatus.CONFLICT, e.getMessage(), null, path(req));
+    }
+
+    @ExceptionHandler(EntityNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Response<Object> handleNotFoundException(ServerHttpRequest req, EntityNotFoundException e) {
+        LOGGER.debug(e.getMessage());
+        return Response.error(HttpStatus.NOT_FOUND, e.getMessage(), Map.of("id", e.getId()), path(req));
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Response<Object> handleWebExchangeBindException(ServerHttpRequest req, WebExchangeBindException e) {
+        LOGGER.debug(e.getMessage());
+        return Response.error(HttpStatus.BAD_REQUEST, "Validation failed", getFieldErrors(e), path(req));
+    }
+
+    @ExceptionHandler(JwtException.class)
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    public Response<Object> handleJWTException(ServerHttpRequest req, JwtException e) {
+        LOGGER.warn(e.getMessage());
+        return Response.error(HttpStatus.UNAUTHORIZED, "Not authorized", null, path(req));
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Response<Object>> handleRateLimitExceededException(ServerHttpRequest req, RateLimitExceededException e) {
+        LOGGER.debug(e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(Response.error(HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), null, path(req)));
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Response<Object>> handleServiceOverloadedException(ServerHttpRequest req, ServiceOverloadedException e) {
+        LOGGER.warn(e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+                .body(Response.error(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), null, path(req)));
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    @ResponseStatus(HttpStatus.FORBIDDEN)
+    public Response<Object> handleAccessDeniedException(ServerHttpRequest req, AccessDeniedException e) {
+        LOGGER.warn(e.getMessage());
+        return Response.error(HttpStatus.FORBIDDEN, e.getMessage(), null, path(req));
+    }
+
+    @ExceptionHandler(ApplicationException.class)
+    public ResponseEntity<Response<Object>> handleApplicationException(ServerHttpRequest req, ApplicationException e) {
+        if (e.getHttpStatus().is5xxServerError()) {
+            LOGGER.error(e.getMessage(), e);
+        } else {
+            LOGGER.debug(e.getMessage());
+        }
+        return new ResponseEntity<>(Response.error(e.getHttpStatus(), e.getMessage(), null, path(req)), e.getHttpStatus());
+    }
+
+    @ExceptionHandler(Exception.class)
+    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+    public Response<Object> handleException(ServerHttpRequest req, Exception e) {
+        LOGGER.error(e.getMessage(), e);
+        return Response.error(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage(), null, path(req));
+    }
+
+    private static String path(ServerHttpRequest req) {
+        return req.getPath().pathWithinApplication().value();
+    }
+
+    private static Map<String, Map<String, String>> getFieldErrors(WebExchangeBindException e) {
+        Map<String, Map<String, String>> fieldErrors = new HashMap<>();
+        for (FieldError fieldError : e.getBindingResult().getFieldErrors()) {
+            Map<String, String> errorDetails = new HashMap<>();
+            errorDetails.put("reason", fieldError.getDefaultMessage());
+            errorDetails.put("rejected_value", String.valueOf(fieldError.getRejectedValue()));
+            fieldErrors.put(fieldError.getField(), errorDetails);
+        }
+        return fieldErrors;
+    }
+}
@@ -0,0 +1,40 @@
+package org.brandon.petwellbackend.repository;
+
+import org.brandon.petwellbackend.entity.UserRecord;
+import org.brandon.petwellbackend.repository.UserEntityRepository.CollectionVersion;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ReactiveUserRepository extends R2dbcRepository<UserRecord, Long> {
+    String SELECT_USER = """
+            select e.id, e.userid, e.first_name, e.last_name, e.email, r.role_type,
+                   e.is_account_non_expired, e.is_account_non_locked, e.is_credentials_non_expired, e.is_enabled,
+                   e.token_version, e.updated_at
+            from employees e
+            left join user_roles ur on ur.user_id = e.id
+            left join roles r on r.id = ur.role_id
+            where e.deleted_at is null
+            """;
+
+    @Query(SELECT_USER + "order by e.last_name")
+    Flux<UserRecord> findAllUsers();
+
+    @Query(SELECT_USER + "and e.userid = :userID")
+    Mono<UserRecord> findByUserID(@Param("userID") String userID);
+
+    @Query(SELECT_USER + "and e.email = :email")
+    Mono<UserRecord> findByEmail(@Param("email") String email);
+
+    @Query("select updated_at from employees where userid = :userID and deleted_at is null")
+    Mono<LocalDateTime> findUpdatedAtByUserID(@Param("userID") String userID);
+
+    @Query("select max(updated_at) as last_updated_at, count(*) as count from employees where deleted_at is null")
+    Mono<CollectionVersion> findCollectionVersion();
+}
@@ -0,0 +1,127 @@
+package org.brandon.petwellbackend.security;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.entity.UserRecord;
+import org.brandon.petwellbackend.enums.RoleType;
+import org.brandon.petwellbackend.payload.Response;
+import org.brandon.petwellbackend.repository.ReactiveUserRepository;
+import org.brandon.petwellbackend.service.JwtService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * WebFlux port of {@link JwtAuthFilter}. The user is looked up through R2DBC, so no request thread
+ * blocks while a token is verified. Not a bean on purpose: it only runs inside the security chain.
+ */
+@RequiredArgsConstructor
+public class JwtAuthWebFilter implements WebFilter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwtAuthWebFilter.class);
+    private static final PathPattern USER_REQUEST_PATTERN = PathPatternParser.defaultInstance.parse("/api/v1/users/**");
+
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final JwtService jwtService;
+    private final RevocationJournal revocationJournal;
+    private final ObjectWriter responseWriter;
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!USER_REQUEST_PATTERN.matches(request.getPath().pathWithinApplication())) {
+            return chain.filter(exchange);
+        }
+        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            LOGGER.warn("Invalid Authorization header: {}", authHeader);
+            return writeUnauthorized(exchange);
+        }
+        String accessToken = authHeader.substring(7);
+        if (accessToken.isBlank()) {
+            LOGGER.warn("Missing access token in Authorization header");
+            return writeUnauthorized(exchange);
+        }
+        return authenticate(accessToken)
+                .onErrorResume(e -> e instanceof JwtException || e instanceof IllegalArgumentException, e -> {
+                    LOGGER.warn("Exception while authenticating request: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .flatMap(authentication -> chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication))
+                        .thenReturn(authentication))
+                .switchIfEmpty(Mono.defer(() -> writeUnauthorized(exchange).then(Mono.empty())))
+                .then();
+    }
+
+    private Mono<Authentication> authenticate(String accessToken) {
+        return Mono.fromCallable(() -> jwtService.extractClaim(accessToken))
+                .flatMap(claims -> Mono.justOrEmpty(claims.getSubject())
+                        .switchIfEmpty(Mono.fromRunnable(() -> LOGGER.warn("Access token has no subject")))
+                        .flatMap(reactiveUserRepository::findByEmail)
+                        .switchIfEmpty(Mono.fromRunnable(() -> LOGGER.warn("User for access token not found")))
+                        .filter(userRecord -> isTokenVersionCurrent(claims, userRecord))
+                        .map(JwtAuthWebFilter::toUserDetails)
+                        .filter(userDetails -> isTokenValid(claims, accessToken, userDetails)))
+                .map(userDetails -> new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    /**
+     * The user row is read on every request here, so its token generation is compared directly.
+     */
+    private boolean isTokenVersionCurrent(Claims claims, UserRecord userRecord) {
+        if (jwtService.extractTokenVersion(claims) != userRecord.tokenVersion()) {
+            LOGGER.warn("Access Token validation failed - token generation revoked");
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isTokenValid(Claims claims, String accessToken, UserDetails userDetails) {
+        if (!jwtService.isTokenValid(claims, userDetails)) {
+            LOGGER.warn("Failed to authenticate request");
+            return false;
+        }
+        if (revocationJournal.isRevoked(claims, accessToken)) {
+            LOGGER.warn("Access Token validation failed - token revoked");
+            return false;
+        }
+        return true;
+    }
+
+    private Mono<Void> writeUnauthorized(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        return response.writeWith(Mono.fromCallable(() -> response.bufferFactory().wrap(
+                responseWriter.writeValueAsBytes(Response.error(HttpStatus.UNAUTHORIZED, "Not authorized", null, path)))));
+    }
+
+    private static UserDetails toUserDetails(UserRecord userRecord) {
+        return User.withUsername(userRecord.email())
+                .password("")
+                .authorities(userRecord.roleType() != null ? RoleType.valueOf(userRecord.roleType()).getAuthorities() : List.of())
+                .build();
+    }
+}
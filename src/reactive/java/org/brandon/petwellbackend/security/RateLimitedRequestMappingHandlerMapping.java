@@ -0,0 +1,70 @@
+package org.brandon.petwellbackend.security;
+
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.exception.RateLimitExceededException;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.cors.reactive.CorsUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+/**
+ * WebFlux counterpart of {@link RateLimitInterceptor}. WebFlux has no handler interceptors and web
+ * filters run before the route is matched, so the caller's token is taken right after the handler
+ * lookup, once the matched route pattern is known. A rejected lookup is answered by the exception
+ * handler like any other {@link RateLimitExceededException}.
+ */
+@RequiredArgsConstructor
+public class RateLimitedRequestMappingHandlerMapping extends RequestMappingHandlerMapping {
+    private static final PathPattern API_REQUEST_PATTERN = PathPatternParser.defaultInstance.parse("/api/**");
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    @NonNull
+    public Mono<HandlerMethod> getHandlerInternal(@NonNull ServerWebExchange exchange) {
+        return super.getHandlerInternal(exchange)
+                .flatMap(handlerMethod -> checkRateLimit(exchange).thenReturn(handlerMethod));
+    }
+
+    private Mono<Void> checkRateLimit(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        PathPattern route = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (route == null || CorsUtils.isPreFlightRequest(request)
+                || !API_REQUEST_PATTERN.matches(request.getPath().pathWithinApplication())) {
+            return Mono.empty();
+        }
+        String method = request.getMethod().name();
+        String remoteAddress = remoteAddress(request);
+        return ReactiveSecurityContextHolder.getContext()
+                .mapNotNull(SecurityContext::getAuthentication)
+                .map(authentication -> rateLimiter.tryConsume(method, route.getPatternString(), authentication, remoteAddress))
+                .switchIfEmpty(Mono.fromSupplier(() -> rateLimiter.tryConsume(method, route.getPatternString(), null, remoteAddress)))
+                .flatMap(RateLimitedRequestMappingHandlerMapping::rejectIfLimited);
+    }
+
+    private static Mono<Void> rejectIfLimited(Duration retryAfter) {
+        if (retryAfter.isZero()) {
+            return Mono.empty();
+        }
+        return Mono.error(new RateLimitExceededException("Rate limit exceeded.", retryAfter));
+    }
+
+    private static String remoteAddress(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return null;
+        }
+        return remoteAddress.getAddress().getHostAddress();
+    }
+}
@@ -0,0 +1,71 @@
+package org.brandon.petwellbackend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxRegistrations;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * WebFlux counterpart of {@link WebConfig}. Smile is among the default codecs once its Jackson module
+ * is on the classpath, CBOR is not. Custom codecs are consulted before the default ones, so JSON is
+ * registered ahead of CBOR to stay the representation for callers that accept any type. The
+ * rate-limit policies are applied by {@link RateLimitedRequestMappingHandlerMapping}.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ReactiveWebConfig implements WebFluxConfigurer {
+    private final ObjectMapper objectMapper;
+
+    @Bean
+    WebFluxRegistrations rateLimitedWebFluxRegistrations(RateLimiter rateLimiter) {
+        return new WebFluxRegistrations() {
+            @Override
+            public RequestMappingHandlerMapping getRequestMappingHandlerMapping() {
+                return new RateLimitedRequestMappingHandlerMapping(rateLimiter);
+            }
+        };
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.customCodecs().register(new Jackson2JsonEncoder(objectMapper));
+        configurer.customCodecs().register(new SingleValueCborEncoder());
+        configurer.customCodecs().register(new Jackson2CborDecoder());
+    }
+
+    /**
+     * {@link Jackson2CborEncoder} rejects every publisher, including the single {@link Mono} a
+     * controller returns, since it cannot encode a stream. Single values are encoded as a whole.
+     */
+    private static final class SingleValueCborEncoder extends Jackson2CborEncoder {
+
+        @Override
+        @NonNull
+        public Flux<DataBuffer> encode(@NonNull Publisher<?> inputStream, @NonNull DataBufferFactory bufferFactory,
+                                       @NonNull ResolvableType elementType, @Nullable MimeType mimeType,
+                                       @Nullable Map<String, Object> hints) {
+            if (inputStream instanceof Mono<?> mono) {
+                return mono.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+            }
+            return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.brandon.petwellbackend.service;
+
+import org.brandon.petwellbackend.domain.RefreshedSession;
+import org.brandon.petwellbackend.payload.UserLoginRequest;
+import org.brandon.petwellbackend.payload.UserRegistrationRequest;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAuthService {
+
+    Mono<RefreshedSession> registerUser(UserRegistrationRequest registrationRequest);
+
+    Mono<RefreshedSession> login(UserLoginRequest loginRequest, String source);
+
+    Mono<RefreshedSession> refreshSession(String refreshToken);
+
+    Mono<Void> logout(String refreshToken, String authHeader, String source);
+
+    Mono<Boolean> isEmailAlreadyRegistered(String email);
+}
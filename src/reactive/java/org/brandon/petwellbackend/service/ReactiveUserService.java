@@ -0,0 +1,38 @@
+package org.brandon.petwellbackend.service;
+
+import org.brandon.petwellbackend.domain.ResourceVersion;
+import org.brandon.petwellbackend.payload.UserBatch;
+import org.brandon.petwellbackend.payload.UserDTO;
+import org.brandon.petwellbackend.payload.UserSearchPage;
+import org.brandon.petwellbackend.payload.UserStats;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ReactiveUserService {
+
+    Mono<List<UserDTO>> getAllUsers();
+
+    Mono<List<Map<String, Object>>> getAllUsers(String fields);
+
+    Mono<UserDTO> getUserByUserID(String userID);
+
+    Mono<Map<String, Object>> getUserByUserID(String userID, String fields);
+
+    Mono<UserBatch> getUsersByUserIDs(List<String> userIDs);
+
+    Mono<UserSearchPage> searchUsers(String query, String cursor, int limit);
+
+    Mono<UserStats> getUserStats(int days);
+
+    Mono<ResourceVersion> getAllUsersVersion();
+
+    Mono<ResourceVersion> getUserVersion(String userID);
+
+    Mono<UserDTO> updateUser(String userID, UserDTO userDto);
+
+    Mono<Void> deleteUser(String userID);
+
+    Mono<Void> revokeAllSessions(String userID);
+}
@@ -0,0 +1,181 @@
+package org.brandon.petwellbackend.service.impl;
+
+import com.google.common.hash.HashCode;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.audit.AuditEventPublisher;
+import org.brandon.petwellbackend.cache.CacheInvalidationBus;
+import org.brandon.petwellbackend.common.BlockingCalls;
+import org.brandon.petwellbackend.domain.RefreshedSession;
+import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.entity.UserRecord;
+import org.brandon.petwellbackend.enums.AuditEventType;
+import org.brandon.petwellbackend.exception.ApplicationException;
+import org.brandon.petwellbackend.exception.RateLimitExceededException;
+import org.brandon.petwellbackend.exception.ServiceOverloadedException;
+import org.brandon.petwellbackend.payload.UserLoginRequest;
+import org.brandon.petwellbackend.payload.UserRegistrationRequest;
+import org.brandon.petwellbackend.repository.ReactiveUserRepository;
+import org.brandon.petwellbackend.security.LoginAttemptService;
+import org.brandon.petwellbackend.security.RevocationJournal;
+import org.brandon.petwellbackend.security.VerifiedTokenCache;
+import org.brandon.petwellbackend.service.JwtService;
+import org.brandon.petwellbackend.service.ReactiveAuthService;
+import org.brandon.petwellbackend.service.RefreshTokenService;
+import org.brandon.petwellbackend.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.springframework.security.authentication.UsernamePasswordAuthenticationToken.unauthenticated;
+
+/**
+ * WebFlux port of the servlet auth flow: {@link org.brandon.petwellbackend.controller.UserController}'s
+ * register and refresh endpoints, {@link org.brandon.petwellbackend.security.LoginFilter} and
+ * {@link org.brandon.petwellbackend.security.CustomLogoutHandler}. The lockout is checked in memory;
+ * the password check and every write run on the shared blocking services, so
+ * sessions, lockouts, audit events and revocations are the same records on both builds.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveAuthServiceImpl implements ReactiveAuthService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveAuthServiceImpl.class);
+
+    private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
+    private final AuthenticationProvider authenticationProvider;
+    private final LoginAttemptService loginAttemptService;
+    private final AuditEventPublisher auditEventPublisher;
+    private final JwtService jwtService;
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final RevocationJournal revocationJournal;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    /**
+     * Registers a user and issues its first refresh token.
+     *
+     * @throws org.brandon.petwellbackend.exception.EntityAlreadyExistsException if the email is taken.
+     */
+    @Override
+    public Mono<RefreshedSession> registerUser(UserRegistrationRequest registrationRequest) {
+        return BlockingCalls.call(() -> {
+            UserEntity registeredUserEntity = userService.registerUser(registrationRequest);
+            return new RefreshedSession(registeredUserEntity, refreshTokenService.issueRefreshToken(registeredUserEntity));
+        });
+    }
+
+    /**
+     * Authenticates with the submitted credentials and issues a refresh token. Accounts and addresses
+     * that are locked out after repeated failures are rejected before the password is hashed. The
+     * login route's rate limit is applied with the other routes' on handler lookup.
+     *
+     * @param source The address the login came from.
+     * @throws RateLimitExceededException  if the caller is locked out.
+     * @throws ServiceOverloadedException if no password hash could be admitted.
+     * @throws ApplicationException       if the credentials are rejected.
+     */
+    @Override
+    public Mono<RefreshedSession> login(UserLoginRequest loginRequest, String source) {
+        Duration lockout = loginAttemptService.getRemainingLockout(loginRequest.email(), source);
+        if (!lockout.isZero()) {
+            LOGGER.warn("Rejected login for {} from {}, locked out for {}", loginRequest.email(), source, lockout);
+            return Mono.error(new RateLimitExceededException("Too many failed login attempts", lockout));
+        }
+        return BlockingCalls.call(() -> authenticate(loginRequest, source));
+    }
+
+    /**
+     * @throws ApplicationException if the refresh token is unknown, revoked or expired.
+     */
+    @Override
+    public Mono<RefreshedSession> refreshSession(String refreshToken) {
+        return BlockingCalls.call(() -> refreshTokenService.rotateRefreshToken(refreshToken));
+    }
+
+    /**
+     * Revokes the refresh token, if any, and the access token from the Authorization header, if it
+     * is valid.
+     */
+    @Override
+    public Mono<Void> logout(String refreshToken, String authHeader, String source) {
+        LOGGER.debug("Started logout request...");
+        Mono<Void> revokeRefreshToken = refreshToken != null
+                ? BlockingCalls.run(() -> refreshTokenService.revokeRefreshToken(refreshToken))
+                : Mono.empty();
+        return revokeRefreshToken.then(Mono.defer(() -> revokeAccessToken(authHeader, source)));
+    }
+
+    @Override
+    public Mono<Boolean> isEmailAlreadyRegistered(String email) {
+        return BlockingCalls.call(() -> userService.isEmailAlreadyRegistered(email));
+    }
+
+    private RefreshedSession authenticate(UserLoginRequest loginRequest, String source) {
+        try {
+            Authentication authentication = authenticationProvider
+                    .authenticate(unauthenticated(loginRequest.email(), loginRequest.password()));
+            loginAttemptService.loginSucceeded(loginRequest.email());
+            UserEntity userEntity = (UserEntity) authentication.getPrincipal();
+            auditEventPublisher.publish(AuditEventType.LOGIN, userEntity.getUsername(), userEntity.getUserID(), source);
+            return new RefreshedSession(userEntity, refreshTokenService.issueRefreshToken(userEntity));
+        } catch (AuthenticationException e) {
+            ServiceOverloadedException overloaded = findOverloadedCause(e);
+            if (overloaded != null) {
+                throw overloaded;
+            }
+            LOGGER.warn("Login failed: {}", e.getMessage());
+            recordFailedAttempt(e, loginRequest.email(), source);
+            throw new ApplicationException(HttpStatus.UNAUTHORIZED, "Not authorized");
+        }
+    }
+
+    private static ServiceOverloadedException findOverloadedCause(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ServiceOverloadedException overloaded) {
+                return overloaded;
+            }
+        }
+        return null;
+    }
+
+    private void recordFailedAttempt(AuthenticationException e, String email, String source) {
+        switch (e) {
+            case BadCredentialsException _ -> {
+                loginAttemptService.loginFailed(email, source);
+                auditEventPublisher.publish(AuditEventType.LOGIN_FAILED, email, null, source);
+            }
+            case LockedException _ -> loginAttemptService.releaseExpiredLock(email);
+            default -> {
+            }
+        }
+    }
+
+    private Mono<Void> revokeAccessToken(String authHeader, String source) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            LOGGER.warn("Invalid or missing Authorization header");
+            return Mono.empty();
+        }
+        String accessToken = authHeader.substring(7);
+        return Mono.fromCallable(() -> jwtService.extractClaim(accessToken))
+                .flatMap(claims -> reactiveUserRepository.findByEmail(claims.getSubject())
+                        .switchIfEmpty(Mono.fromRunnable(() -> LOGGER.warn("The username extracted from the token is not valid.")))
+                        .flatMap(userRecord -> BlockingCalls.run(() -> revokeAccessToken(userRecord, claims, accessToken, source))));
+    }
+
+    private void revokeAccessToken(UserRecord userRecord, Claims claims, String accessToken, String source) {
+        HashCode tokenDigest = revocationJournal.revoke(claims, accessToken);
+        verifiedTokenCache.evict(accessToken);
+        cacheInvalidationBus.publishTokenRevoked(userRecord.email(), tokenDigest, claims.getExpiration().toInstant().getEpochSecond());
+        auditEventPublisher.publish(AuditEventType.LOGOUT, userRecord.email(), userRecord.userID(), source);
+    }
+}
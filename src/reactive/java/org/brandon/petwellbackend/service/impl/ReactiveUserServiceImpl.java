@@ -0,0 +1,163 @@
+package org.brandon.petwellbackend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.brandon.petwellbackend.common.BlockingCalls;
+import org.brandon.petwellbackend.domain.ResourceVersion;
+import org.brandon.petwellbackend.entity.UserRecord;
+import org.brandon.petwellbackend.enums.RoleType;
+import org.brandon.petwellbackend.exception.ApplicationException;
+import org.brandon.petwellbackend.exception.EntityNotFoundException;
+import org.brandon.petwellbackend.payload.UserBatch;
+import org.brandon.petwellbackend.payload.UserDTO;
+import org.brandon.petwellbackend.payload.UserSearchPage;
+import org.brandon.petwellbackend.payload.UserStats;
+import org.brandon.petwellbackend.repository.ReactiveUserRepository;
+import org.brandon.petwellbackend.service.ReactiveUserService;
+import org.brandon.petwellbackend.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain user reads go straight through R2DBC. Writes are delegated to the blocking {@link UserService},
+ * which owns their side effects: audit events, outbox messages, token generations and the cache
+ * invalidations relayed to every instance. So are sparse fieldsets, batches, search and stats, whose
+ * queries and caches live there.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveUserServiceImpl implements ReactiveUserService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveUserServiceImpl.class);
+
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final UserService userService;
+
+    /**
+     * Retrieves all stored users, ordered by last name.
+     *
+     * @return List of UserDTO for all users.
+     * @throws ApplicationException if no users exist.
+     */
+    @Override
+    public Mono<List<UserDTO>> getAllUsers() {
+        return reactiveUserRepository.findAllUsers()
+                .map(ReactiveUserServiceImpl::toUserDTO)
+                .collectList()
+                .filter(userDTOS -> !userDTOS.isEmpty())
+                .switchIfEmpty(Mono.error(() -> new ApplicationException(HttpStatus.NOT_FOUND, "No users found")));
+    }
+
+    /**
+     * Retrieves a user's details by the provided ID.
+     *
+     * @param userID The ID of the user to be retrieved.
+     * @return the UserDTO of the found user.
+     * @throws EntityNotFoundException if a user with the provided ID is not found.
+     */
+    @Override
+    public Mono<UserDTO> getUserByUserID(String userID) {
+        return reactiveUserRepository.findByUserID(userID)
+                .map(ReactiveUserServiceImpl::toUserDTO)
+                .switchIfEmpty(Mono.error(() -> handleEntityNotFoundException(userID)));
+    }
+
+    @Override
+    public Mono<List<Map<String, Object>>> getAllUsers(String fields) {
+        return BlockingCalls.call(() -> userService.getAllUsers(fields));
+    }
+
+    @Override
+    public Mono<Map<String, Object>> getUserByUserID(String userID, String fields) {
+        return BlockingCalls.call(() -> userService.getUserByUserID(userID, fields));
+    }
+
+    @Override
+    public Mono<UserBatch> getUsersByUserIDs(List<String> userIDs) {
+        return BlockingCalls.call(() -> userService.getUsersByUserIDs(userIDs));
+    }
+
+    @Override
+    public Mono<UserSearchPage> searchUsers(String query, String cursor, int limit) {
+        return BlockingCalls.call(() -> userService.searchUsers(query, cursor, limit));
+    }
+
+    @Override
+    public Mono<UserStats> getUserStats(int days) {
+        return BlockingCalls.call(() -> userService.getUserStats(days));
+    }
+
+    @Override
+    public Mono<ResourceVersion> getAllUsersVersion() {
+        return reactiveUserRepository.findCollectionVersion()
+                .filter(version -> version.getLastUpdatedAt() != null)
+                .map(version -> ResourceVersion.of(version.getLastUpdatedAt(), version.getCount()));
+    }
+
+    @Override
+    public Mono<ResourceVersion> getUserVersion(String userID) {
+        return reactiveUserRepository.findUpdatedAtByUserID(userID)
+                .map(ResourceVersion::of);
+    }
+
+    /**
+     * Updates the names and role of an existing user through {@link UserService#updateUser(String, UserDTO)},
+     * so that the change is audited, published to the outbox and evicted from the caches of every
+     * instance exactly as on the servlet build.
+     *
+     * @param userID  The ID of the user to be updated.
+     * @param userDto The new details for the user.
+     * @return the UserDTO of the updated user.
+     * @throws EntityNotFoundException if a user with the provided ID is not found.
+     */
+    @Override
+    public Mono<UserDTO> updateUser(String userID, UserDTO userDto) {
+        return BlockingCalls.call(() -> userService.updateUser(userID, userDto));
+    }
+
+    /**
+     * Deletes a user identified by the provided ID through {@link UserService#deleteUser(String)}.
+     *
+     * @param userID The ID of the user to be deleted.
+     * @throws EntityNotFoundException if a user with the provided ID is not found.
+     */
+    @Override
+    public Mono<Void> deleteUser(String userID) {
+        return BlockingCalls.run(() -> userService.deleteUser(userID));
+    }
+
+    /**
+     * Signs the user out everywhere through {@link UserService#revokeAllSessions(String)}.
+     *
+     * @param userID The ID of the user.
+     * @throws EntityNotFoundException if a user with the provided ID is not found.
+     */
+    @Override
+    public Mono<Void> revokeAllSessions(String userID) {
+        return BlockingCalls.run(() -> userService.revokeAllSessions(userID));
+    }
+
+    private static UserDTO toUserDTO(UserRecord userRecord) {
+        return UserDTO.builder()
+                .userID(userRecord.userID())
+                .firstname(userRecord.firstname())
+                .lastname(userRecord.lastname())
+                .email(userRecord.email())
+                .role(userRecord.roleType() != null ? RoleType.valueOf(userRecord.roleType()).getName() : null)
+                .isAccountNonExpired(userRecord.isAccountNonExpired())
+                .isAccountNonLocked(userRecord.isAccountNonLocked())
+                .isCredentialsNonExpired(userRecord.isCredentialsNonExpired())
+                .isEnabled(userRecord.isEnabled())
+                .build();
+    }
+
+    private static EntityNotFoundException handleEntityNotFoundException(String userID) {
+        String errorMessage = String.format("Could not find user: %s", userID);
+        LOGGER.debug(errorMessage);
+        return new EntityNotFoundException(errorMessage, userID);
+    }
+}
@@ -0,0 +1,104 @@
+package org.brandon.petwellbackend.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.brandon.petwellbackend.domain.AuditEvent;
+import org.brandon.petwellbackend.repository.AuditEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.brandon.petwellbackend.enums.AuditEventType.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class AuditEventPublisherTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuditEventRepository auditEventRepository = mock(AuditEventRepository.class);
+
+    private AuditEventPublisher auditEventPublisher;
+
+    @AfterEach
+    void tearDown() {
+        if (auditEventPublisher != null) {
+            auditEventPublisher.stop();
+        }
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void should_WriteQueuedEventsInBatches_When_WriterFallsBehind() throws Exception {
+        // Arrange
+        CountDownLatch firstWrite = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            List<AuditEvent> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            firstWrite.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(auditEventRepository).insertAll(anyList());
+        auditEventPublisher = newPublisher(100, 10);
+        auditEventPublisher.start();
+
+        // Act
+        auditEventPublisher.publish(LOGIN, "john@petwell.com", "id-1", "10.0.0.1");
+        assertTrue(firstWrite.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 25; i++) {
+            auditEventPublisher.publish(USER_UPDATED, "admin@petwell.com", "id-" + i, null);
+        }
+        release.countDown();
+        auditEventPublisher.stop();
+
+        // Assert
+        assertEquals(List.of(1, 10, 10, 5), batchSizes);
+    }
+
+    @Test
+    void should_DropAndCountEvents_When_QueueFull() {
+        // Arrange
+        auditEventPublisher = newPublisher(2, 10);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            auditEventPublisher.publish(LOGIN_FAILED, "john@petwell.com", null, "10.0.0.1");
+        }
+
+        // Assert
+        assertEquals(3.0, meterRegistry.get("petwell.audit.events.dropped").counter().count());
+        assertEquals(2.0, meterRegistry.get("petwell.audit.queue.depth").gauge().value());
+    }
+
+    @Test
+    void should_QueueEventAfterCommit_When_TransactionActive() {
+        // Arrange
+        auditEventPublisher = newPublisher(10, 10);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        auditEventPublisher.publish(USER_DELETED, "id-1", null);
+        double depthBeforeCommit = meterRegistry.get("petwell.audit.queue.depth").gauge().value();
+        List<TransactionSynchronization> synchronizations = new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertEquals(0.0, depthBeforeCommit);
+        assertEquals(1.0, meterRegistry.get("petwell.audit.queue.depth").gauge().value());
+    }
+
+    private AuditEventPublisher newPublisher(int queueCapacity, int batchSize) {
+        AuditLogConfig auditLogConfig = new AuditLogConfig();
+        auditLogConfig.setQueueCapacity(queueCapacity);
+        auditLogConfig.setBatchSize(batchSize);
+        return new AuditEventPublisher(auditEventRepository, () -> Optional.of("admin@petwell.com"), auditLogConfig, meterRegistry);
+    }
+}
@@ -0,0 +1,150 @@
+package org.brandon.petwellbackend.cache;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.brandon.petwellbackend.base.TestContainerConfiguration;
+import org.brandon.petwellbackend.payload.UserSearchPage;
+import org.brandon.petwellbackend.security.RevocationJournal;
+import org.brandon.petwellbackend.security.RevocationJournalConfig;
+import org.brandon.petwellbackend.security.VerifiedTokenCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheInvalidationBusTest extends TestContainerConfiguration {
+    private static final String EMAIL = "john@petwell.com";
+
+    @TempDir
+    private Path journalDir;
+
+    private Node writer;
+    private Node peer;
+
+    @BeforeEach
+    void setUp() {
+        CacheInvalidationConfig cacheInvalidationConfig = new CacheInvalidationConfig();
+        cacheInvalidationConfig.setMaxKeysPerBatch(10);
+        writer = new Node(cacheInvalidationConfig, journalDir.resolve("writer.journal"));
+        peer = new Node(cacheInvalidationConfig, journalDir.resolve("peer.journal"));
+        writer.bus.start();
+        peer.bus.start();
+        awaitListening(writer);
+        awaitListening(peer);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        writer.bus.stop();
+        peer.bus.stop();
+        writer.revocationJournal.close();
+        peer.revocationJournal.close();
+    }
+
+    @Test
+    void should_EvictPeerCaches_When_UserChanged() {
+        // Arrange
+        writer.tokenVersionCache.put(EMAIL, 1);
+        peer.tokenVersionCache.put(EMAIL, 1);
+        peer.tokenVersionCache.put("mary@petwell.com", 3);
+        peer.userSearchCache.put("jo", new UserSearchPage(List.of(), null));
+
+        // Act
+        writer.bus.publishUserChanged(EMAIL);
+
+        // Assert
+        await().atMost(5, TimeUnit.SECONDS).until(() -> peer.tokenVersionCache.get(EMAIL) == null);
+        assertNull(peer.userSearchCache.get("jo"));
+        assertEquals(3, peer.tokenVersionCache.get("mary@petwell.com"));
+        assertEquals(1, writer.tokenVersionCache.get(EMAIL));
+    }
+
+    @Test
+    void should_ClearPeerCaches_When_BurstExceedsMaxKeys() {
+        // Arrange
+        peer.tokenVersionCache.put("mary@petwell.com", 3);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            writer.bus.publishUserChanged("user" + i + "@petwell.com");
+        }
+
+        // Assert
+        await().atMost(5, TimeUnit.SECONDS).until(() -> peer.tokenVersionCache.get("mary@petwell.com") == null);
+    }
+
+    @Test
+    void should_RevokeTokenOnPeer_When_TokenRevoked() {
+        // Arrange
+        Claims claims = Jwts.claims()
+                .id("token-1")
+                .subject(EMAIL)
+                .expiration(Date.from(Instant.now().plusSeconds(3600)))
+                .build();
+
+        // Act
+        writer.bus.publishTokenRevoked(EMAIL, writer.revocationJournal.revoke(claims, "token"),
+                claims.getExpiration().toInstant().getEpochSecond());
+
+        // Assert
+        await().atMost(5, TimeUnit.SECONDS).until(() -> peer.revocationJournal.isRevoked(claims, "token"));
+    }
+
+    /**
+     * The listener clears the caches once it is connected, so the sentinel entry put before it started
+     * disappearing means it is listening.
+     */
+    private static void awaitListening(Node node) {
+        await().atMost(Duration.ofSeconds(10)).until(() -> node.tokenVersionCache.get("sentinel") == null);
+    }
+
+    private static final class Node {
+        private final CacheStore<String, Integer> tokenVersionCache = new CacheStore<>(60, TimeUnit.SECONDS);
+        private final CacheStore<String, UserSearchPage> userSearchCache = new CacheStore<>(60, TimeUnit.SECONDS);
+        private final RevocationJournal revocationJournal;
+        private final CacheInvalidationBus bus;
+
+        private Node(CacheInvalidationConfig cacheInvalidationConfig, Path journalPath) {
+            JdbcConnectionDetails jdbcConnectionDetails = new JdbcConnectionDetails() {
+                @Override
+                public String getUsername() {
+                    return postgreSQLContainer.getUsername();
+                }
+
+                @Override
+                public String getPassword() {
+                    return postgreSQLContainer.getPassword();
+                }
+
+                @Override
+                public String getJdbcUrl() {
+                    return postgreSQLContainer.getJdbcUrl();
+                }
+            };
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                    postgreSQLContainer.getJdbcUrl(), postgreSQLContainer.getUsername(), postgreSQLContainer.getPassword()));
+            RevocationJournalConfig revocationJournalConfig = new RevocationJournalConfig();
+            revocationJournalConfig.setPath(journalPath);
+            revocationJournalConfig.setCapacity(64);
+            revocationJournal = new RevocationJournal(revocationJournalConfig);
+            tokenVersionCache.put("sentinel", 0);
+            bus = new CacheInvalidationBus(jdbcTemplate, jdbcConnectionDetails, cacheInvalidationConfig,
+                    tokenVersionCache, userSearchCache, new VerifiedTokenCache(), revocationJournal, new SimpleMeterRegistry());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.brandon.petwellbackend.controller;
+
+import org.brandon.petwellbackend.base.BaseControllerTestConfiguration;
+import org.brandon.petwellbackend.domain.AuditEvent;
+import org.brandon.petwellbackend.payload.AuditEventPage;
+import org.brandon.petwellbackend.service.AuditService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.brandon.petwellbackend.enums.AuditEventType.LOGIN;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DirtiesContext
+class AuditControllerTest extends BaseControllerTestConfiguration {
+    private static final String EVENTS_URL = "/api/v1/audit/events";
+
+    @MockBean
+    private AuditService auditService;
+
+    @Test
+    void should_ReturnEventPage_When_AdminRequestsEvents() throws Exception {
+        Instant from = Instant.parse("2026-10-19T00:00:00Z");
+        Instant to = Instant.parse("2026-10-19T12:00:00Z");
+        AuditEvent event = new AuditEvent(7L, to.minusSeconds(5), LOGIN, "john@petwell.com", null, "10.0.0.1");
+
+        when(auditService.getEvents(from, to, "next", 1))
+                .thenReturn(new AuditEventPage(List.of(event), "after-7"));
+
+        ResultActions response = mockMvc.perform(get(EVENTS_URL)
+                .param("from", from.toString())
+                .param("to", to.toString())
+                .param("cursor", "next")
+                .param("limit", "1")
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.events[0].id").value(7))
+                .andExpect(jsonPath("$.data.events[0].type").value("LOGIN"))
+                .andExpect(jsonPath("$.data.next_cursor").value("after-7"));
+    }
+
+    @Test
+    void should_ReturnForbiddenStatus_When_CallerLacksAdminRead() throws Exception {
+        ResultActions response = mockMvc.perform(get(EVENTS_URL).header(HttpHeaders.AUTHORIZATION, mockManagerToken));
+
+        response.andDo(print())
+                .andExpect(status().isForbidden());
+        verify(auditService, never()).getEvents(any(Instant.class), any(Instant.class), any(), anyInt());
+    }
+
+    @Test
+    void should_RejectRequest_When_NoTokenGiven() throws Exception {
+        ResultActions response = mockMvc.perform(get(EVENTS_URL));
+
+        response.andDo(print())
+                .andExpect(status().is4xxClientError());
+        verify(auditService, never()).getEvents(any(Instant.class), any(Instant.class), eq(null), anyInt());
+    }
+}
@@ -1,16 +1,23 @@
 package org.brandon.petwellbackend.controller;
 
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import jakarta.servlet.http.Cookie;
 import org.brandon.petwellbackend.base.BaseControllerTestConfiguration;
+import org.brandon.petwellbackend.cache.CacheStore;
+import org.brandon.petwellbackend.domain.ResourceVersion;
 import org.brandon.petwellbackend.entity.UserEntity;
 import org.brandon.petwellbackend.entity.Role;
 import org.brandon.petwellbackend.exception.EntityAlreadyExistsException;
 import org.brandon.petwellbackend.exception.EntityNotFoundException;
+import org.brandon.petwellbackend.payload.UserBatch;
 import org.brandon.petwellbackend.payload.UserDTO;
 import org.brandon.petwellbackend.payload.UserRegistrationRequest;
+import org.brandon.petwellbackend.payload.UserStats;
 import org.brandon.petwellbackend.payload.Response;
 import org.brandon.petwellbackend.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -20,11 +27,22 @@ import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.brandon.petwellbackend.enums.RoleType.ADMIN;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -38,6 +56,9 @@ class UserControllerTest extends BaseControllerTestConfiguration {
     @MockBean
     private UserService userService;
 
+    @Autowired
+    private CacheStore<String, Integer> tokenVersionCache;
+
     private static final String BASE_AUTH_URL = "/api/v1/auth/users";
     private static final String BASE_URL = "/api/v1/users";
 
@@ -149,6 +170,98 @@ class UserControllerTest extends BaseControllerTestConfiguration {
                 .andExpect(jsonPath("$.data.email").value(userDTO.email()));
     }
 
+    @Test
+    void should_ReturnOnlyRequestedFields_When_FieldsGiven() throws Exception {
+        String id = UUID.randomUUID().toString();
+
+        when(userService.getUserByUserID(id, "user_id,first_name"))
+                .thenReturn(Map.of("user_id", id, "first_name", "John"));
+
+        ResultActions response = mockMvc.perform(get(BASE_URL + "/{id}", id).param("fields", "user_id,first_name")
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.user_id").value(id))
+                .andExpect(jsonPath("$.data.first_name").value("John"))
+                .andExpect(jsonPath("$.data.email").doesNotExist());
+        verify(userService, never()).getUserByUserID(id);
+    }
+
+    @Test
+    void should_ReturnUsersAndMissingIDs_When_BatchRequested() throws Exception {
+        when(userService.getUsersByUserIDs(List.of(userDTO.userID(), "unknown")))
+                .thenReturn(new UserBatch(List.of(userDTO), List.of("unknown")));
+
+        ResultActions response = mockMvc.perform(post(BASE_URL + "/batch")
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken)
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("user_ids", List.of(userDTO.userID(), "unknown")))));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.users[0].user_id").value(userDTO.userID()))
+                .andExpect(jsonPath("$.data.missing_ids[0]").value("unknown"));
+    }
+
+    @Test
+    void should_ReturnUserStats_When_StatsRequested() throws Exception {
+        UserStats userStats = new UserStats(3, 3, 1, Map.of(ADMIN, 3L),
+                List.of(new UserStats.DailyRegistrations(LocalDate.now(), 2)), Instant.now());
+
+        when(userService.getUserStats(7))
+                .thenReturn(userStats);
+
+        ResultActions response = mockMvc.perform(get(BASE_URL + "/stats").param("days", "7")
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.total_users").value(3))
+                .andExpect(jsonPath("$.data.locked_users").value(1))
+                .andExpect(jsonPath("$.data.users_by_role.ADMIN").value(3))
+                .andExpect(jsonPath("$.data.registrations_per_day[0].registrations").value(2));
+    }
+
+    @Test
+    void should_ReturnCborEnvelope_When_CborAccepted() throws Exception {
+        String id = UUID.randomUUID().toString();
+        MediaType cbor = MediaType.parseMediaType("application/cbor");
+
+        when(userService.getUserByUserID(id))
+                .thenReturn(userDTO);
+
+        ResultActions response = mockMvc.perform(get(BASE_URL + "/{id}", id)
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken)
+                .accept(cbor));
+
+        byte[] body = response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(cbor))
+                .andReturn().getResponse().getContentAsByteArray();
+        Response<?> decoded = new CBORMapper().readValue(body, Response.class);
+        assertEquals(userDTO.email(), ((Map<?, ?>) decoded.getData()).get("email"));
+    }
+
+    @Test
+    void should_ReturnNotModified_When_ETagMatchesCurrentUserVersion() throws Exception {
+        String id = UUID.randomUUID().toString();
+        ResourceVersion version = ResourceVersion.of(LocalDateTime.now());
+
+        when(userService.getUserVersion(id)).thenReturn(Optional.of(version));
+
+        ResultActions response = mockMvc.perform(get(BASE_URL + "/{id}", id)
+                .header(HttpHeaders.AUTHORIZATION, mockAdminToken)
+                .header(HttpHeaders.IF_NONE_MATCH, version.eTag()));
+
+        response.andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, version.eTag()))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andExpect(content().string(""));
+        verify(userService, never()).getUserByUserID(id);
+    }
+
     @Test
     void should_UpdateUser_When_GivenValidUserIdAndUserDto() throws Exception {
         String id = UUID.randomUUID().toString();
@@ -182,6 +295,32 @@ class UserControllerTest extends BaseControllerTestConfiguration {
                 .andExpect(jsonPath("$.message").value("Success"));
     }
 
+    @Test
+    void should_RevokeAllSessions_When_GivenValidUserId() throws Exception {
+        String id = UUID.randomUUID().toString();
+
+        doNothing().when(userService).revokeAllSessions(id);
+
+        ResultActions response = mockMvc.perform(delete(BASE_URL + "/{id}/sessions", id).header(HttpHeaders.AUTHORIZATION, mockAdminToken));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Success"));
+        verify(userService, times(1)).revokeAllSessions(id);
+    }
+
+    @Test
+    void should_ReturnUnauthorizedStatus_When_TokenGenerationRevoked() throws Exception {
+        tokenVersionCache.evictAll();
+        when(userService.getTokenVersion(anyString())).thenReturn(1);
+
+        ResultActions response = mockMvc.perform(get(BASE_URL).header(HttpHeaders.AUTHORIZATION, mockAdminToken));
+
+        response.andDo(print())
+                .andExpect(status().isUnauthorized());
+        verify(userService, never()).getAllUsers();
+    }
+
     @Test
     void should_ReturnNotFoundStatus_When_GivenInvalidUserId() throws Exception {
         String invalidId = UUID.randomUUID().toString();
@@ -194,4 +333,14 @@ class UserControllerTest extends BaseControllerTestConfiguration {
         response.andDo(print())
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_ReturnUnauthorizedStatus_When_RefreshTokenUnknown() throws Exception {
+        ResultActions response = mockMvc.perform(post("/api/v1/auth/token/refresh")
+                .cookie(new Cookie("refresh_token", UUID.randomUUID().toString())));
+
+        response.andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(cookie().doesNotExist("access_token"));
+    }
+}
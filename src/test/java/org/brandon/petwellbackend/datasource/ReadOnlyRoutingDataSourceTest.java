@@ -0,0 +1,121 @@
+package org.brandon.petwellbackend.datasource;
+
+import org.brandon.petwellbackend.entity.Role;
+import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.repository.UserEntityRepository;
+import org.brandon.petwellbackend.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.brandon.petwellbackend.enums.RoleType.ADMIN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+@SpringBootTest
+@Testcontainers
+class ReadOnlyRoutingDataSourceTest {
+    @Container
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:16.0").withDatabaseName("primary_db");
+
+    @Container
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:16.0").withDatabaseName("replica_db");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserEntityRepository userEntityRepository;
+
+    @DynamicPropertySource
+    static void dataSourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("spring.datasource.replica.url", replica::getJdbcUrl);
+        registry.add("spring.datasource.replica.username", replica::getUsername);
+        registry.add("spring.datasource.replica.password", replica::getPassword);
+    }
+
+    @Test
+    void should_UseReplica_When_TransactionIsReadOnly() {
+        // Arrange
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // Act
+        String database = readOnly.execute(_ -> currentDatabase());
+
+        // Assert
+        assertEquals("replica_db", database);
+    }
+
+    @Test
+    void should_UsePrimary_When_TransactionIsReadWrite() {
+        // Arrange
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        // Act
+        String database = readWrite.execute(_ -> currentDatabase());
+
+        // Assert
+        assertEquals("primary_db", database);
+    }
+
+    @Test
+    void should_UsePrimary_When_NoTransactionIsActive() {
+        // Act
+        String database = currentDatabase();
+
+        // Assert
+        assertEquals("primary_db", database);
+        assertInstanceOf(LazyConnectionDataSourceProxy.class, dataSource);
+    }
+
+    /**
+     * Hibernate only creates the schema on the primary, so a lookup routed to the replica would fail.
+     */
+    @Test
+    void should_ReadTokenVersionFromPrimary_When_NotCached() {
+        // Arrange
+        UserEntity userEntity = userEntityRepository.save(UserEntity.builder()
+                .userID(UUID.randomUUID().toString())
+                .firstname("John")
+                .lastname("Doe")
+                .email("john@petwell.com")
+                .password("password")
+                .role(Role.builder().roleType(ADMIN).build())
+                .build());
+
+        // Act
+        int tokenVersion = userService.getTokenVersion(userEntity.getEmail());
+
+        // Assert
+        assertEquals(0, tokenVersion);
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select current_database()", String.class);
+    }
+}
@@ -0,0 +1,33 @@
+package org.brandon.petwellbackend.domain;
+
+import org.brandon.petwellbackend.exception.ApplicationException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditCursorTest {
+
+    @Test
+    void should_DecodeToSamePosition_When_Encoded() {
+        // Arrange
+        AuditCursor cursor = new AuditCursor(Instant.parse("2026-10-19T06:04:05.123456Z"), 42);
+
+        // Act
+        AuditCursor decoded = AuditCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void should_ThrowApplicationException_When_CursorMalformed() {
+        // Act & Assert
+        assertThrows(ApplicationException.class, () -> AuditCursor.decode("not a cursor"));
+        assertThrows(ApplicationException.class, () -> AuditCursor.decode(
+                Base64.getUrlEncoder().encodeToString("2026-10-19T06:04:05Z".getBytes(StandardCharsets.UTF_8))));
+    }
+}
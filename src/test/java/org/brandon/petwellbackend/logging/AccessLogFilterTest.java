@@ -0,0 +1,52 @@
+package org.brandon.petwellbackend.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogFilterTest {
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger("access");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private AccessLogFilter accessLogFilter;
+
+    @BeforeEach
+    void setUp() {
+        AccessLogConfig accessLogConfig = new AccessLogConfig();
+        accessLogConfig.setSuccessSampleRate(0.0);
+        accessLogFilter = new AccessLogFilter(accessLogConfig);
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+    }
+
+    @Test
+    void should_LogServerError_When_ExceptionEscapesChain() {
+        // Arrange
+        FilterChain failingChain = (_, _) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> accessLogFilter.doFilter(
+                new MockHttpServletRequest("GET", "/api/v1/users"), new MockHttpServletResponse(), failingChain));
+
+        // Assert
+        assertEquals(1, appender.list.size());
+        assertTrue(appender.list.getFirst().getKeyValuePairs().stream()
+                .anyMatch(pair -> pair.key.equals("status") && pair.value.equals(500)));
+    }
+}
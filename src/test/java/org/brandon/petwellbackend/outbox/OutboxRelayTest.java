@@ -0,0 +1,130 @@
+package org.brandon.petwellbackend.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.brandon.petwellbackend.domain.OutboxMessage;
+import org.brandon.petwellbackend.enums.OutboxMessageType;
+import org.brandon.petwellbackend.repository.OutboxMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+    private static final String PAYLOAD = "{\"user_id\":\"42\"}";
+
+    @Mock
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Mock
+    private OutboxMessageHandler registrationHandler;
+
+    private OutboxConfig outboxConfig;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        outboxConfig = new OutboxConfig();
+        outboxConfig.setMaxAttempts(3);
+        when(registrationHandler.types()).thenReturn(Set.of(OutboxMessageType.USER_REGISTERED));
+        outboxRelay = new OutboxRelay(outboxMessageRepository, outboxConfig, List.of(registrationHandler),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void should_DeleteMessage_When_Delivered() throws Exception {
+        // Arrange
+        OutboxMessage message = new OutboxMessage(1, OutboxMessageType.USER_REGISTERED, "42", PAYLOAD, 1);
+        when(outboxMessageRepository.claim(outboxConfig.getBatchSize(), outboxConfig.getLease())).thenReturn(List.of(message));
+
+        // Act
+        int claimed = outboxRelay.relayBatch();
+
+        // Assert
+        assertEquals(1, claimed);
+        verify(registrationHandler, times(1)).handle(message);
+        verify(outboxMessageRepository, times(1)).delete(1);
+        verify(outboxMessageRepository, never()).reschedule(anyLong(), any(), any());
+    }
+
+    @Test
+    void should_RescheduleWithBackoff_When_DeliveryFails() throws Exception {
+        // Arrange
+        OutboxMessage first = new OutboxMessage(1, OutboxMessageType.USER_REGISTERED, "42", PAYLOAD, 1);
+        OutboxMessage second = new OutboxMessage(2, OutboxMessageType.USER_REGISTERED, "43", PAYLOAD, 2);
+        when(outboxMessageRepository.claim(anyInt(), any())).thenReturn(List.of(first, second));
+        doThrow(new IOException("Webhook responded with status 503")).when(registrationHandler).handle(any());
+
+        // Act
+        outboxRelay.relayBatch();
+
+        // Assert
+        verify(outboxMessageRepository, times(1)).reschedule(eq(1L), eq(Duration.ofSeconds(10)), contains("503"));
+        verify(outboxMessageRepository, times(1)).reschedule(eq(2L), eq(Duration.ofSeconds(20)), contains("503"));
+        verify(outboxMessageRepository, never()).delete(anyLong());
+    }
+
+    @Test
+    void should_ParkMessage_When_LastAttemptFails() throws Exception {
+        // Arrange
+        OutboxMessage message = new OutboxMessage(1, OutboxMessageType.USER_REGISTERED, "42", PAYLOAD, 3);
+        when(outboxMessageRepository.claim(anyInt(), any())).thenReturn(List.of(message));
+        doThrow(new IOException("Connection refused")).when(registrationHandler).handle(message);
+
+        // Act
+        outboxRelay.relayBatch();
+
+        // Assert
+        verify(outboxMessageRepository, times(1)).park(eq(1L), contains("Connection refused"));
+        verify(outboxMessageRepository, never()).reschedule(anyLong(), any(), any());
+    }
+
+    @Test
+    void should_DiscardMessage_When_NoHandlerForType() throws Exception {
+        // Arrange
+        OutboxMessage message = new OutboxMessage(1, OutboxMessageType.USER_DELETED, "42", PAYLOAD, 1);
+        when(outboxMessageRepository.claim(anyInt(), any())).thenReturn(List.of(message));
+
+        // Act
+        outboxRelay.relayBatch();
+
+        // Assert
+        assertFalse(outboxRelay.hasHandler(OutboxMessageType.USER_DELETED));
+        verify(registrationHandler, never()).handle(any());
+        verify(outboxMessageRepository, times(1)).delete(1);
+    }
+
+    @Test
+    void should_RescheduleMessage_When_TypeUnknown() throws Exception {
+        // Arrange
+        OutboxMessage unknown = new OutboxMessage(1, null, "42", PAYLOAD, 1);
+        OutboxMessage lastAttempt = new OutboxMessage(2, null, "43", PAYLOAD, 3);
+        when(outboxMessageRepository.claim(anyInt(), any())).thenReturn(List.of(unknown, lastAttempt));
+
+        // Act
+        outboxRelay.relayBatch();
+
+        // Assert
+        verify(registrationHandler, never()).handle(any());
+        verify(outboxMessageRepository, times(1)).reschedule(eq(1L), eq(Duration.ofSeconds(10)), contains("Unknown"));
+        verify(outboxMessageRepository, times(1)).park(eq(2L), contains("Unknown"));
+        verify(outboxMessageRepository, never()).delete(anyLong());
+    }
+
+    @Test
+    void should_Fail_When_TwoHandlersClaimSameType() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new OutboxRelay(outboxMessageRepository, outboxConfig,
+                List.of(registrationHandler, registrationHandler), new SimpleMeterRegistry()));
+    }
+}
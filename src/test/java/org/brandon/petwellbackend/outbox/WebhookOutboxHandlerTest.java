@@ -0,0 +1,80 @@
+package org.brandon.petwellbackend.outbox;
+
+import com.sun.net.httpserver.HttpServer;
+import org.brandon.petwellbackend.domain.OutboxMessage;
+import org.brandon.petwellbackend.enums.OutboxMessageType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the handler against a local HTTP stub that records what it receives.
+ */
+class WebhookOutboxHandlerTest {
+    private static final String PAYLOAD = "{\"user_id\":\"42\",\"email\":\"john@petwell.com\"}";
+
+    private final BlockingQueue<String[]> received = new LinkedBlockingQueue<>();
+    private final AtomicInteger responseStatus = new AtomicInteger(204);
+
+    private HttpServer stub;
+    private WebhookOutboxHandler handler;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        stub.createContext("/hooks/users", exchange -> {
+            received.add(new String[]{
+                    exchange.getRequestHeaders().getFirst(WebhookOutboxHandler.MESSAGE_TYPE_HEADER),
+                    exchange.getRequestHeaders().getFirst(WebhookOutboxHandler.MESSAGE_ID_HEADER),
+                    new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)});
+            exchange.sendResponseHeaders(responseStatus.get(), -1);
+            exchange.close();
+        });
+        stub.start();
+
+        OutboxConfig outboxConfig = new OutboxConfig();
+        outboxConfig.getWebhook().setUrl(URI.create("http://localhost:" + stub.getAddress().getPort() + "/hooks/users"));
+        handler = new WebhookOutboxHandler(outboxConfig);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+    }
+
+    @Test
+    void should_PostPayloadWithTypeAndIdHeaders_When_Handled() throws Exception {
+        // Act
+        handler.handle(new OutboxMessage(7, OutboxMessageType.USER_REGISTERED, "42", PAYLOAD, 1));
+
+        // Assert
+        String[] request = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(request);
+        assertEquals("USER_REGISTERED", request[0]);
+        assertEquals("7", request[1]);
+        assertEquals(PAYLOAD, request[2]);
+    }
+
+    @Test
+    void should_Throw_When_WebhookRespondsWithError() {
+        // Arrange
+        responseStatus.set(503);
+
+        // Act & Assert
+        IOException e = assertThrows(IOException.class,
+                () -> handler.handle(new OutboxMessage(7, OutboxMessageType.USER_DELETED, "42", PAYLOAD, 1)));
+        assertTrue(e.getMessage().contains("503"));
+    }
+}
@@ -2,20 +2,27 @@ package org.brandon.petwellbackend.repository;
 
 import org.brandon.petwellbackend.entity.Role;
 import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.payload.UserDTO;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.brandon.petwellbackend.enums.RoleType.ADMIN;
+import static org.brandon.petwellbackend.enums.UserField.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
@@ -29,6 +36,9 @@ class UserEntityRepositoryTest {
     @Autowired
     private UserEntityRepository userEntityRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void shouldEstablishConnectionToPostgresContainer() {
         assertTrue(postgreSQLContainer.isCreated());
@@ -198,6 +208,114 @@ class UserEntityRepositoryTest {
         assertTrue(userEntityEntities.isEmpty());
     }
 
+    @Test
+    void should_ReturnOnlyRequestedFields_When_SparseFieldsetRequested() {
+        // Arrange
+        UserEntity e1 = UserEntity.builder()
+                .userID(UUID.randomUUID().toString())
+                .firstname("John")
+                .lastname("Doe")
+                .email("john@petwell.com")
+                .password("password")
+                .role(Role.builder().roleType(ADMIN).build())
+                .build();
+        userEntityRepository.saveAndFlush(e1);
+
+        // Act
+        List<Map<String, Object>> users = userEntityRepository.findAllUserFields(EnumSet.of(USER_ID, FIRST_NAME));
+        Optional<Map<String, Object>> user = userEntityRepository.findUserFieldsByUserID(e1.getUserID(), EnumSet.of(ROLE));
+
+        // Assert
+        assertEquals(List.of(Map.of("user_id", e1.getUserID(), "first_name", "John")), users);
+        assertEquals(Optional.of(Map.of("role", ADMIN.getName())), user);
+    }
+
+    @Test
+    void should_FindOnlyGivenUsers_When_QueryingByUserIDs() {
+        // Arrange
+        UserEntity e1 = UserEntity.builder()
+                .userID(UUID.randomUUID().toString())
+                .firstname("John")
+                .lastname("Doe")
+                .email("john@petwell.com")
+                .password("password")
+                .role(Role.builder().roleType(ADMIN).build())
+                .build();
+        UserEntity e2 = UserEntity.builder()
+                .userID(UUID.randomUUID().toString())
+                .firstname("Jane")
+                .lastname("Doe")
+                .email("jane@petwell.com")
+                .password("password")
+                .role(Role.builder().roleType(ADMIN).build())
+                .build();
+        userEntityRepository.saveAllAndFlush(List.of(e1, e2));
+
+        // Act
+        List<UserDTO> users = userEntityRepository.findUserDTOsByUserIDIn(List.of(e1.getUserID(), "unknown"));
+
+        // Assert
+        assertEquals(1, users.size());
+        assertEquals(e1.getUserID(), users.getFirst().userID());
+    }
+
+    @Test
+    void should_HideUser_When_SoftDeleted() {
+        // Arrange
+        UserEntity e1 = UserEntity.builder()
+                .userID(UUID.randomUUID().toString())
+                .firstname("John")
+                .lastname("Doe")
+                .email("john@petwell.com")
+                .password("password")
+                .role(Role.builder().roleType(ADMIN).build())
+                .build();
+        userEntityRepository.saveAndFlush(e1);
+
+        // Act
+        int deleted = userEntityRepository.softDeleteByUserID(e1.getUserID());
+        entityManager.clear();
+
+        // Assert
+        assertEquals(1, deleted);
+        assertTrue(userEntityRepository.findByUserID(e1.getUserID()).isEmpty());
+        assertFalse(userEntityRepository.existsByEmail("john@petwell.com"));
+        assertTrue(userEntityRepository.findAllUserDTOs().isEmpty());
+    }
+
+    @Test
+    void should_PurgeOnlyUsersDeletedBeforeCutoff_When_PurgeRuns() {
+        // Arrange
+        UserEntity deletedUser = UserEntity.builder()
+                .userID(UUID.randomUUID().toString())
+                .firstname("John")
+                .lastname("Doe")
+                .email("john@petwell.com")
+                .password("password")
+                .role(Role.builder().roleType(ADMIN).build())
+                .build();
+        UserEntity activeUser = UserEntity.builder()
+                .userID(UUID.randomUUID().toString())
+                .firstname("Jane")
+                .lastname("Doe")
+                .email("jane@petwell.com")
+                .password("password")
+                .role(Role.builder().roleType(ADMIN).build())
+                .build();
+        userEntityRepository.saveAllAndFlush(List.of(deletedUser, activeUser));
+        userEntityRepository.softDeleteByUserID(deletedUser.getUserID());
+
+        // Act
+        int purgedBeforeCutoff = userEntityRepository.purgeDeletedUsers(LocalDateTime.now().minusDays(1), 10);
+        int purged = userEntityRepository.purgeDeletedUsers(LocalDateTime.now().plusMinutes(1), 10);
+        entityManager.clear();
+
+        // Assert
+        assertEquals(0, purgedBeforeCutoff);
+        assertEquals(1, purged);
+        assertTrue(userEntityRepository.findByUserID(activeUser.getUserID()).isPresent());
+    }
+
     @Test
     void should_ReturnTrue_When_EmployeeEmailExistsInDatabase() {
         // Arrange
@@ -230,4 +348,39 @@ class UserEntityRepositoryTest {
         // Assert
         assertFalse(isEmailPresent);
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_ProjectUserDTOsOrderedByLastName_When_UsersExist() {
+        // Arrange
+        UserEntity e1 = UserEntity.builder()
+                .userID(UUID.randomUUID().toString())
+                .firstname("Mary")
+                .lastname("Smith")
+                .email("mary@petwell.com")
+                .password("password")
+                .role(Role.builder().roleType(ADMIN).build())
+                .isEnabled(true)
+                .build();
+
+        UserEntity e2 = UserEntity.builder()
+                .userID(UUID.randomUUID().toString())
+                .firstname("John")
+                .lastname("Doe")
+                .email("john@petwell.com")
+                .password("password")
+                .role(Role.builder().roleType(ADMIN).build())
+                .build();
+
+        // Act
+        userEntityRepository.saveAll(List.of(e1, e2));
+        List<UserDTO> userDTOs = userEntityRepository.findAllUserDTOs();
+        UserDTO foundUserDTO = userEntityRepository.findUserDTOByUserID(e1.getUserID()).orElse(null);
+
+        // Assert
+        assertEquals(List.of("Doe", "Smith"), userDTOs.stream().map(UserDTO::lastname).toList());
+        assertNotNull(foundUserDTO);
+        assertEquals(e1.getEmail(), foundUserDTO.email());
+        assertEquals(ADMIN.getName(), foundUserDTO.role());
+        assertTrue(foundUserDTO.isEnabled());
+    }
+}
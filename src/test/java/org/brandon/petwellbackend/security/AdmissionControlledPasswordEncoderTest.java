@@ -0,0 +1,58 @@
+package org.brandon.petwellbackend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.brandon.petwellbackend.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlledPasswordEncoderTest {
+
+    @Test
+    void should_RejectHashing_When_AllPermitsBusyAndQueueFull() throws Exception {
+        // Arrange
+        CountDownLatch hashing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AdmissionControlledPasswordEncoder passwordEncoder = new AdmissionControlledPasswordEncoder(
+                new BlockingPasswordEncoder(hashing, release), 1, 0, Duration.ofMillis(50), Duration.ofSeconds(1), meterRegistry);
+        CompletableFuture<String> firstHash = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("password"));
+        assertTrue(hashing.await(5, TimeUnit.SECONDS));
+
+        // Act & Assert
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+                () -> passwordEncoder.matches("password", "encoded"));
+        assertEquals(Duration.ofSeconds(1), exception.getRetryAfter());
+        assertEquals(1.0, meterRegistry.get("petwell.password.hashing.rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("petwell.password.hashing.active").gauge().value());
+
+        release.countDown();
+        assertEquals("encoded", firstHash.get(5, TimeUnit.SECONDS));
+        assertTrue(passwordEncoder.matches("password", "encoded"));
+    }
+
+    private record BlockingPasswordEncoder(CountDownLatch hashing, CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            hashing.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return "encoded".equals(encodedPassword);
+        }
+    }
+}
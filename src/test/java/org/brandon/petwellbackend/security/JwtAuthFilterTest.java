@@ -0,0 +1,159 @@
+package org.brandon.petwellbackend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.brandon.petwellbackend.cache.CacheStore;
+import org.brandon.petwellbackend.entity.Role;
+import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.repository.UserEntityRepository;
+import org.brandon.petwellbackend.service.JwtService;
+import org.brandon.petwellbackend.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.brandon.petwellbackend.enums.RoleType.ADMIN;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JwtAuthFilterTest {
+    private static final String ACCESS_TOKEN = "header.payload.signature";
+    private static final String EMAIL = "john@petwell.com";
+
+    @Mock
+    private UserEntityRepository userEntityRepository;
+
+    @Mock
+    private HandlerExceptionResolver handlerExceptionResolver;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private RevocationJournal revocationJournal;
+
+    private CacheStore<String, Integer> tokenVersionCache;
+
+    private JwtAuthFilter jwtAuthFilter;
+
+    private Claims claims;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        tokenVersionCache = new CacheStore<>(60, TimeUnit.SECONDS);
+        jwtAuthFilter = new JwtAuthFilter(userEntityRepository, handlerExceptionResolver, jwtService,
+                new TokenVersionService(tokenVersionCache, userService), new VerifiedTokenCache(), revocationJournal);
+
+        UserEntity userEntity = UserEntity.builder()
+                .email(EMAIL)
+                .role(Role.builder().roleType(ADMIN).build())
+                .build();
+        Claims claims = Jwts.claims()
+                .subject(EMAIL)
+                .expiration(Date.from(Instant.now().plusSeconds(3600)))
+                .build();
+
+        when(jwtService.extractClaim(ACCESS_TOKEN)).thenReturn(claims);
+        when(jwtService.isTokenValid(claims, userEntity)).thenReturn(true);
+        when(userEntityRepository.findByEmail(EMAIL)).thenReturn(Optional.of(userEntity));
+        this.claims = claims;
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void should_SkipVerification_When_TokenVerifiedBefore() throws Exception {
+        // Act
+        MockHttpServletResponse firstResponse = filter();
+        SecurityContextHolder.clearContext();
+        MockHttpServletResponse secondResponse = filter();
+
+        // Assert
+        assertEquals(200, firstResponse.getStatus());
+        assertEquals(200, secondResponse.getStatus());
+        assertEquals(EMAIL, SecurityContextHolder.getContext().getAuthentication().getName());
+
+        verify(jwtService, times(1)).extractClaim(ACCESS_TOKEN);
+        verify(userEntityRepository, times(1)).findByEmail(EMAIL);
+        verify(userService, times(1)).getTokenVersion(EMAIL);
+        verifyNoInteractions(handlerExceptionResolver);
+    }
+
+    @Test
+    void should_NotTouchRepositoryOrService_When_TokenAndVersionCached() throws Exception {
+        // Arrange
+        filter();
+        SecurityContextHolder.clearContext();
+        clearInvocations(userEntityRepository, userService, jwtService);
+
+        // Act
+        MockHttpServletResponse response = filter();
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertEquals(EMAIL, SecurityContextHolder.getContext().getAuthentication().getName());
+
+        verifyNoInteractions(userEntityRepository, userService, jwtService);
+    }
+
+    @Test
+    void should_RejectCachedToken_When_TokenGenerationRevoked() throws Exception {
+        // Arrange
+        filter();
+        SecurityContextHolder.clearContext();
+        tokenVersionCache.evict(EMAIL);
+        when(userService.getTokenVersion(EMAIL)).thenReturn(1);
+
+        // Act
+        filter();
+
+        // Assert
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+        verify(handlerExceptionResolver, times(1)).resolveException(any(), any(), isNull(), any());
+    }
+
+    @Test
+    void should_RejectToken_When_Revoked() throws Exception {
+        // Arrange
+        when(revocationJournal.isRevoked(claims, ACCESS_TOKEN)).thenReturn(true);
+
+        // Act
+        filter();
+
+        // Assert
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+        verify(handlerExceptionResolver, times(1)).resolveException(any(), any(), isNull(), any());
+    }
+
+    private MockHttpServletResponse filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        request.setServletPath("/api/v1/users");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + ACCESS_TOKEN);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtAuthFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
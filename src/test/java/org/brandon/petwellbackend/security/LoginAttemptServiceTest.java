@@ -0,0 +1,102 @@
+package org.brandon.petwellbackend.security;
+
+import org.brandon.petwellbackend.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class LoginAttemptServiceTest {
+    private static final String EMAIL = "john@petwell.com";
+    private static final String SOURCE = "10.0.0.1";
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @InjectMocks
+    private LoginAttemptService loginAttemptService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void should_LockAccount_When_FailureThresholdReached() {
+        // Act
+        for (int i = 0; i < 4; i++) {
+            loginAttemptService.loginFailed(EMAIL, SOURCE);
+        }
+        Duration lockoutBeforeThreshold = loginAttemptService.getRemainingLockout(EMAIL, "10.0.0.2");
+        loginAttemptService.loginFailed(EMAIL, SOURCE);
+
+        // Assert
+        assertTrue(lockoutBeforeThreshold.isZero());
+        assertFalse(loginAttemptService.getRemainingLockout("JOHN@petwell.com", "10.0.0.2").isZero());
+        assertTrue(loginAttemptService.getRemainingLockout("mary@petwell.com", "10.0.0.2").isZero());
+
+        verify(userService, times(1)).lockAccount(eq(EMAIL), any(Instant.class));
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void should_DoubleLockout_When_FailingAgainAfterLockExpires() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            loginAttemptService.loginFailed(EMAIL, SOURCE);
+        }
+        Duration firstLockout = loginAttemptService.getRemainingLockout(EMAIL, SOURCE);
+
+        // Act
+        loginAttemptService.loginFailed(EMAIL, SOURCE);
+        Duration secondLockout = loginAttemptService.getRemainingLockout(EMAIL, SOURCE);
+
+        // Assert
+        assertTrue(secondLockout.compareTo(firstLockout.multipliedBy(2).minusSeconds(1)) > 0);
+    }
+
+    @Test
+    void should_ResetAccountFailures_When_LoginSucceeds() {
+        // Arrange
+        for (int i = 0; i < 4; i++) {
+            loginAttemptService.loginFailed(EMAIL, SOURCE);
+        }
+
+        // Act
+        loginAttemptService.loginSucceeded(EMAIL);
+        loginAttemptService.loginFailed(EMAIL, SOURCE);
+
+        // Assert
+        assertTrue(loginAttemptService.getRemainingLockout(EMAIL, "10.0.0.2").isZero());
+        verify(userService, never()).lockAccount(eq(EMAIL), any(Instant.class));
+    }
+
+    @Test
+    void should_LockNormalizedEmail_When_FailuresDifferInCase() {
+        // Act
+        loginAttemptService.loginFailed("John@Petwell.com", SOURCE);
+        for (int i = 0; i < 4; i++) {
+            loginAttemptService.loginFailed("JOHN@PETWELL.COM", SOURCE);
+        }
+        loginAttemptService.releaseExpiredLock("John@Petwell.com");
+
+        // Assert
+        assertFalse(loginAttemptService.getRemainingLockout(EMAIL, "10.0.0.2").isZero());
+
+        verify(userService, times(1)).lockAccount(eq(EMAIL), any(Instant.class));
+        verify(userService, times(1)).releaseExpiredAccountLock(EMAIL);
+    }
+}
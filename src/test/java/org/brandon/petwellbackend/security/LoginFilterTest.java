@@ -0,0 +1,162 @@
+package org.brandon.petwellbackend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.brandon.petwellbackend.audit.AuditEventPublisher;
+import org.brandon.petwellbackend.entity.Role;
+import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.payload.Response;
+import org.brandon.petwellbackend.payload.UserLoginRequest;
+import org.brandon.petwellbackend.service.JwtService;
+import org.brandon.petwellbackend.service.RefreshTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.brandon.petwellbackend.enums.AuditEventType.LOGIN;
+import static org.brandon.petwellbackend.enums.RoleType.ADMIN;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LoginFilterTest {
+    private static final String LOGIN_URL = "/api/v1/auth/users/login";
+    private static final String SOURCE = "203.0.113.7";
+    private static final String PASSWORD = "password123";
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private LoginAttemptService loginAttemptService;
+
+    @Mock
+    private AuditEventPublisher auditEventPublisher;
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private LoginFilter loginFilter;
+
+    private UserEntity userEntity;
+
+    private byte[] credentials;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        loginFilter = new LoginFilter(authenticationManager, jwtService, refreshTokenService, loginAttemptService,
+                auditEventPublisher, rateLimiter, objectMapper);
+
+        userEntity = UserEntity.builder()
+                .userID(UUID.randomUUID().toString())
+                .email("john@petwell.com")
+                .password("$2a$10$hashed")
+                .role(Role.builder().roleType(ADMIN).build())
+                .build();
+        credentials = objectMapper.writeValueAsBytes(new UserLoginRequest(userEntity.getEmail(), PASSWORD));
+
+        when(rateLimiter.tryConsume(anyString(), anyString(), any(), any())).thenReturn(Duration.ZERO);
+        when(loginAttemptService.getRemainingLockout(anyString(), any())).thenReturn(Duration.ZERO);
+        when(refreshTokenService.issueRefreshToken(userEntity)).thenReturn("refresh-token");
+    }
+
+    @Test
+    void should_AuthenticateWithSubmittedPasswordAndWritePreSerializedBody_When_CredentialsValid() throws Exception {
+        // Arrange
+        when(authenticationManager.authenticate(any()))
+                .thenReturn(UsernamePasswordAuthenticationToken.authenticated(userEntity, null, userEntity.getAuthorities()));
+
+        // Act
+        MockHttpServletResponse response = login(credentials);
+
+        // Assert
+        ArgumentCaptor<Authentication> captor = ArgumentCaptor.forClass(Authentication.class);
+        verify(authenticationManager, times(1)).authenticate(captor.capture());
+        assertEquals(userEntity.getEmail(), captor.getValue().getPrincipal());
+        assertEquals(PASSWORD, captor.getValue().getCredentials());
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertArrayEquals(objectMapper.writeValueAsBytes(Response.success(null, HttpStatus.OK)), response.getContentAsByteArray());
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+
+        verify(loginAttemptService, times(1)).loginSucceeded(userEntity.getEmail());
+        verify(jwtService, times(1)).addRefreshTokenCookie(response, "refresh-token");
+        verify(auditEventPublisher, times(1)).publish(LOGIN, userEntity.getEmail(), userEntity.getUserID(), SOURCE);
+    }
+
+    @Test
+    void should_ReturnTooManyRequestsWithoutAuthenticating_When_LockedOut() throws Exception {
+        // Arrange
+        when(loginAttemptService.getRemainingLockout(userEntity.getEmail(), SOURCE)).thenReturn(Duration.ofMinutes(5));
+
+        // Act
+        MockHttpServletResponse response = login(credentials);
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("300", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals("Too many failed login attempts", objectMapper.readTree(response.getContentAsByteArray()).get("message").asText());
+
+        verifyNoInteractions(authenticationManager);
+    }
+
+    @Test
+    void should_ReturnTooManyRequestsWithoutAuthenticating_When_RateLimited() throws Exception {
+        // Arrange
+        when(rateLimiter.tryConsume("POST", LOGIN_URL, null, SOURCE)).thenReturn(Duration.ofMillis(1500));
+
+        // Act
+        MockHttpServletResponse response = login(credentials);
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+
+        verifyNoInteractions(authenticationManager, loginAttemptService);
+    }
+
+    @Test
+    void should_ReturnBadRequestWithoutAuthenticating_When_BodyMalformed() throws Exception {
+        // Act
+        MockHttpServletResponse malformed = login("{\"email\":".getBytes());
+        MockHttpServletResponse empty = login(new byte[0]);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST.value(), malformed.getStatus());
+        assertEquals(HttpStatus.BAD_REQUEST.value(), empty.getStatus());
+        assertEquals("Malformed login request", objectMapper.readTree(malformed.getContentAsByteArray()).get("message").asText());
+
+        verifyNoInteractions(authenticationManager, loginAttemptService);
+    }
+
+    private MockHttpServletResponse login(byte[] body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LOGIN_URL);
+        request.setServletPath(LOGIN_URL);
+        request.setRemoteAddr(SOURCE);
+        request.setContent(body);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        loginFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
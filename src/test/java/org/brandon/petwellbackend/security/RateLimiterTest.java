@@ -0,0 +1,154 @@
+package org.brandon.petwellbackend.security;
+
+import org.brandon.petwellbackend.enums.RateLimitTier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import static org.brandon.petwellbackend.enums.RoleType.ADMIN;
+import static org.brandon.petwellbackend.enums.RoleType.CLIENT;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+    private static final String REGISTER_ROUTE = "/api/v1/auth/users/register";
+    private static final String SEARCH_ROUTE = "/api/v1/users/search";
+    private static final String SOURCE = "10.0.0.1";
+
+    @TempDir
+    private Path tempDir;
+
+    private RateLimitConfig rateLimitConfig;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitConfig = new RateLimitConfig();
+        rateLimitConfig.setPolicies(List.of(
+                policy("register", "POST", REGISTER_ROUTE, RateLimitTier.ANONYMOUS, 2),
+                policy("user-search", null, SEARCH_ROUTE, RateLimitTier.CLIENT, 1)));
+    }
+
+    @Test
+    void should_RejectAnonymousCaller_When_CapacityExhausted() {
+        // Arrange
+        RateLimiter rateLimiter = new RateLimiter(rateLimitConfig);
+
+        // Act
+        Duration first = rateLimiter.tryConsume("POST", REGISTER_ROUTE, null, SOURCE);
+        Duration second = rateLimiter.tryConsume("POST", REGISTER_ROUTE, null, SOURCE);
+        Duration third = rateLimiter.tryConsume("POST", REGISTER_ROUTE, null, SOURCE);
+
+        // Assert
+        assertTrue(first.isZero());
+        assertTrue(second.isZero());
+        assertFalse(third.isZero());
+        assertTrue(rateLimiter.tryConsume("POST", REGISTER_ROUTE, null, "10.0.0.2").isZero());
+        assertTrue(rateLimiter.tryConsume("GET", REGISTER_ROUTE, null, SOURCE).isZero());
+        assertTrue(rateLimiter.tryConsume("POST", "/api/v1/users", null, SOURCE).isZero());
+    }
+
+    @Test
+    void should_LimitPerTier_When_CallerAuthenticated() {
+        // Arrange
+        RateLimiter rateLimiter = new RateLimiter(rateLimitConfig);
+        Authentication client = authentication("mary@petwell.com", CLIENT.getAuthorities());
+        Authentication admin = authentication("john@petwell.com", ADMIN.getAuthorities());
+
+        // Act
+        rateLimiter.tryConsume("GET", SEARCH_ROUTE, client, SOURCE);
+        Duration clientRetryAfter = rateLimiter.tryConsume("GET", SEARCH_ROUTE, client, SOURCE);
+        rateLimiter.tryConsume("GET", SEARCH_ROUTE, admin, SOURCE);
+        Duration adminRetryAfter = rateLimiter.tryConsume("GET", SEARCH_ROUTE, admin, SOURCE);
+
+        // Assert
+        assertFalse(clientRetryAfter.isZero());
+        assertTrue(adminRetryAfter.isZero());
+        assertTrue(rateLimiter.tryConsume("GET", SEARCH_ROUTE, null, SOURCE).isZero());
+    }
+
+    @Test
+    void should_ApplyNewPolicies_When_PolicyFileChanges() throws Exception {
+        // Arrange
+        Path policyFile = tempDir.resolve("rate-limits.yml");
+        writePolicyFile(policyFile, 1, Instant.now().minusSeconds(60));
+        rateLimitConfig.setPolicyFile(policyFile);
+        RateLimiter rateLimiter = new RateLimiter(rateLimitConfig);
+        rateLimiter.tryConsume("POST", REGISTER_ROUTE, null, SOURCE);
+        Duration beforeReload = rateLimiter.tryConsume("POST", REGISTER_ROUTE, null, SOURCE);
+
+        // Act
+        writePolicyFile(policyFile, 3, Instant.now());
+        rateLimiter.reloadPolicies();
+
+        // Assert
+        assertFalse(beforeReload.isZero());
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rateLimiter.tryConsume("POST", REGISTER_ROUTE, null, SOURCE).isZero());
+        }
+        assertFalse(rateLimiter.tryConsume("POST", REGISTER_ROUTE, null, SOURCE).isZero());
+        assertTrue(rateLimiter.tryConsume("GET", SEARCH_ROUTE, authentication("mary@petwell.com", CLIENT.getAuthorities()), SOURCE).isZero());
+    }
+
+    @Test
+    void should_KeepPreviousPolicies_When_PolicyFileInvalid() throws Exception {
+        // Arrange
+        Path policyFile = tempDir.resolve("rate-limits.yml");
+        writePolicyFile(policyFile, 1, Instant.now().minusSeconds(60));
+        rateLimitConfig.setPolicyFile(policyFile);
+        RateLimiter rateLimiter = new RateLimiter(rateLimitConfig);
+
+        // Act
+        Files.writeString(policyFile, """
+                rate-limit:
+                  policies:
+                    - name: register
+                      path: %s
+                      limits:
+                        anonymous: { capacity: 0 }
+                """.formatted(REGISTER_ROUTE));
+        rateLimiter.reloadPolicies();
+
+        // Assert
+        assertTrue(rateLimiter.tryConsume("POST", REGISTER_ROUTE, null, SOURCE).isZero());
+        assertFalse(rateLimiter.tryConsume("POST", REGISTER_ROUTE, null, SOURCE).isZero());
+    }
+
+    private static RateLimitConfig.Policy policy(String name, String method, String path, RateLimitTier tier, long capacity) {
+        RateLimitConfig.Limit limit = new RateLimitConfig.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillPeriod(Duration.ofHours(1));
+        RateLimitConfig.Policy policy = new RateLimitConfig.Policy();
+        policy.setName(name);
+        policy.setMethod(method);
+        policy.setPath(path);
+        policy.getLimits().put(tier, limit);
+        return policy;
+    }
+
+    private static Authentication authentication(String email, Collection<? extends GrantedAuthority> authorities) {
+        return UsernamePasswordAuthenticationToken.authenticated(email, null, authorities);
+    }
+
+    private static void writePolicyFile(Path policyFile, int capacity, Instant modified) throws Exception {
+        Files.writeString(policyFile, """
+                rate-limit:
+                  policies:
+                    - name: register
+                      method: POST
+                      path: %s
+                      limits:
+                        anonymous: { capacity: %d, refill-period: 1h }
+                """.formatted(REGISTER_ROUTE, capacity));
+        Files.setLastModifiedTime(policyFile, FileTime.from(modified));
+    }
+}
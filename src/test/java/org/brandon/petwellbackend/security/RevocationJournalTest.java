@@ -0,0 +1,117 @@
+package org.brandon.petwellbackend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevocationJournalTest {
+
+    @TempDir
+    private Path journalDir;
+
+    @Test
+    void should_KeepRevocations_When_JournalReopened() throws Exception {
+        // Arrange
+        Claims revokedClaims = claims("token-1", 3600);
+        RevocationJournal journal = new RevocationJournal(config(64));
+        journal.revoke(revokedClaims, "token");
+        journal.close();
+
+        // Act
+        RevocationJournal reopenedJournal = new RevocationJournal(config(64));
+
+        // Assert
+        assertTrue(reopenedJournal.isRevoked(revokedClaims, "token"));
+        assertFalse(reopenedJournal.isRevoked(claims("token-2", 3600), "token"));
+        reopenedJournal.close();
+    }
+
+    @Test
+    void should_DropExpiredRecords_When_Compacted() throws Exception {
+        // Arrange
+        RevocationJournal journal = new RevocationJournal(config(16));
+        Claims expiredClaims = claims("expired", -1);
+        journal.revoke(expiredClaims, "token");
+
+        // Act
+        journal.compact();
+
+        // Assert
+        assertFalse(journal.isRevoked(expiredClaims, "token"));
+        journal.close();
+    }
+
+    @Test
+    void should_GrowJournal_When_MoreRevocationsThanCapacity() throws Exception {
+        // Arrange
+        RevocationJournal journal = new RevocationJournal(config(16));
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            journal.revoke(claims("token-" + i, 3600), "token");
+        }
+        journal.close();
+        RevocationJournal reopenedJournal = new RevocationJournal(config(16));
+
+        // Assert
+        for (int i = 0; i < 100; i++) {
+            assertTrue(reopenedJournal.isRevoked(claims("token-" + i, 3600), "token"));
+        }
+        assertTrue(Files.size(journalDir.resolve("revocations.journal")) >= 100L * RevocationJournal.RECORD_SIZE);
+        reopenedJournal.close();
+    }
+
+    @Test
+    void should_FailFast_When_JournalAlreadyOpen() throws Exception {
+        // Arrange
+        RevocationJournal journal = new RevocationJournal(config(16));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new RevocationJournal(config(16)));
+        journal.close();
+    }
+
+    @Test
+    void should_CompactInBackground_When_JournalFillsUp() throws Exception {
+        // Arrange
+        RevocationJournal journal = new RevocationJournal(config(16));
+        Path journalFile = journalDir.resolve("revocations.journal");
+        long initialSize = Files.size(journalFile);
+
+        // Act
+        for (int i = 0; i < 40; i++) {
+            journal.revoke(claims("token-" + i, 3600), "token");
+        }
+
+        // Assert
+        await().atMost(5, TimeUnit.SECONDS).until(() -> Files.size(journalFile) > initialSize);
+        for (int i = 0; i < 40; i++) {
+            assertTrue(journal.isRevoked(claims("token-" + i, 3600), "token"));
+        }
+        journal.close();
+    }
+
+    private RevocationJournalConfig config(int capacity) {
+        RevocationJournalConfig config = new RevocationJournalConfig();
+        config.setPath(journalDir.resolve("revocations.journal"));
+        config.setCapacity(capacity);
+        return config;
+    }
+
+    private static Claims claims(String tokenId, long expiresInSeconds) {
+        return Jwts.claims()
+                .id(tokenId)
+                .expiration(Date.from(Instant.now().plusSeconds(expiresInSeconds)))
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package org.brandon.petwellbackend.security;
+
+import org.brandon.petwellbackend.cache.CacheStore;
+import org.brandon.petwellbackend.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class TokenVersionServiceTest {
+    private static final String EMAIL = "john@petwell.com";
+
+    @Mock
+    private UserService userService;
+
+    private CacheStore<String, Integer> tokenVersionCache;
+
+    private TokenVersionService tokenVersionService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        tokenVersionCache = new CacheStore<>(60, TimeUnit.SECONDS);
+        tokenVersionService = new TokenVersionService(tokenVersionCache, userService);
+    }
+
+    @Test
+    void should_LoadAndCacheTokenVersion_When_NotCached() {
+        // Arrange
+        when(userService.getTokenVersion(EMAIL)).thenReturn(4);
+
+        // Act
+        int tokenVersion = tokenVersionService.getTokenVersion(EMAIL);
+
+        // Assert
+        assertEquals(4, tokenVersion);
+        assertEquals(4, tokenVersionCache.get(EMAIL));
+    }
+
+    @Test
+    void should_NotCallUserService_When_Cached() {
+        // Arrange
+        tokenVersionCache.put(EMAIL, 2);
+
+        // Act
+        int tokenVersion = tokenVersionService.getTokenVersion(EMAIL);
+
+        // Assert
+        assertEquals(2, tokenVersion);
+
+        verifyNoInteractions(userService);
+    }
+}
@@ -0,0 +1,77 @@
+package org.brandon.petwellbackend.service;
+
+import org.brandon.petwellbackend.domain.AuditCursor;
+import org.brandon.petwellbackend.domain.AuditEvent;
+import org.brandon.petwellbackend.exception.ApplicationException;
+import org.brandon.petwellbackend.payload.AuditEventPage;
+import org.brandon.petwellbackend.repository.AuditEventRepository;
+import org.brandon.petwellbackend.service.impl.AuditServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.brandon.petwellbackend.enums.AuditEventType.LOGIN;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuditServiceTest {
+    private static final Instant TO = Instant.parse("2026-10-19T12:00:00Z");
+    private static final Instant FROM = TO.minusSeconds(3600);
+
+    @Mock
+    private AuditEventRepository auditEventRepository;
+
+    @InjectMocks
+    private AuditServiceImpl auditService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void should_ReturnCursorOfLastEvent_When_MoreEventsExist() {
+        // Arrange
+        List<AuditEvent> events = List.of(event(3, TO.minusSeconds(1)), event(2, TO.minusSeconds(2)), event(1, TO.minusSeconds(3)));
+        when(auditEventRepository.findEvents(FROM, AuditCursor.first(TO), 3)).thenReturn(events);
+
+        // Act
+        AuditEventPage page = auditService.getEvents(FROM, TO, null, 2);
+
+        // Assert
+        assertEquals(events.subList(0, 2), page.events());
+        assertEquals(new AuditCursor(TO.minusSeconds(2), 2), AuditCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    void should_ContinueAfterCursor_When_CursorGiven() {
+        // Arrange
+        AuditCursor cursor = new AuditCursor(TO.minusSeconds(2), 2);
+        when(auditEventRepository.findEvents(FROM, cursor, 3)).thenReturn(List.of(event(1, TO.minusSeconds(3))));
+
+        // Act
+        AuditEventPage page = auditService.getEvents(FROM, TO, cursor.encode(), 2);
+
+        // Assert
+        assertEquals(1, page.events().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void should_ThrowApplicationException_When_RangeEmpty() {
+        // Act & Assert
+        assertThrows(ApplicationException.class, () -> auditService.getEvents(TO, FROM, null, 10));
+
+        verifyNoInteractions(auditEventRepository);
+    }
+
+    private static AuditEvent event(long id, Instant occurredAt) {
+        return new AuditEvent(id, occurredAt, LOGIN, "john@petwell.com", null, "10.0.0.1");
+    }
+}
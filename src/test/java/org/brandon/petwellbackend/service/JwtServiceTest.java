@@ -0,0 +1,191 @@
+package org.brandon.petwellbackend.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.brandon.petwellbackend.entity.Role;
+import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.security.JwtConfig;
+import org.brandon.petwellbackend.security.JwtKeyRing;
+import org.brandon.petwellbackend.service.impl.JwtServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.brandon.petwellbackend.enums.RoleType.ADMIN;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+    private static final String SECRET_KEY = "a86e7e2786d280e6b5b1f75776dff7e8a18a41cf989304cb5fb0e58522eaadca";
+
+    private JwtServiceImpl jwtService;
+
+    private UserEntity userEntity;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = createJwtService(new JwtConfig());
+
+        userEntity = UserEntity.builder()
+                .userID(UUID.randomUUID().toString())
+                .firstname("John")
+                .lastname("Doe")
+                .email("john@petwell.com")
+                .password("password")
+                .role(Role.builder().roleType(ADMIN).build())
+                .build();
+    }
+
+    private static JwtServiceImpl createJwtService(JwtConfig jwtConfig) {
+        jwtConfig.setSecretKey(SECRET_KEY);
+        jwtConfig.setTokenExpiration(3600);
+        JwtServiceImpl service = new JwtServiceImpl(new JwtKeyRing(jwtConfig));
+        service.setTokenExpiration(jwtConfig.getTokenExpiration());
+        return service;
+    }
+
+    private static JwtConfig.KeyDefinition writeEs256Key(Path dir, String keyId, boolean withPrivateKey) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        Path publicKey = Files.writeString(dir.resolve(keyId + "-public.pem"), toPem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        Path privateKey = Files.writeString(dir.resolve(keyId + "-private.pem"), toPem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+
+        JwtConfig.KeyDefinition definition = new JwtConfig.KeyDefinition();
+        definition.setId(keyId);
+        definition.setAlgorithm(JwtConfig.KeyAlgorithm.ES256);
+        definition.setPublicKey(new FileSystemResource(publicKey));
+        if (withPrivateKey) {
+            definition.setPrivateKey(new FileSystemResource(privateKey));
+        }
+        return definition;
+    }
+
+    private static String toPem(String type, byte[] encoded) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(encoded)
+                + "\n-----END " + type + "-----\n";
+    }
+
+    @Test
+    void should_EncodeCompactRoleClaims_When_TokenGenerated() {
+        // Act
+        String token = jwtService.generateJwtToken(userEntity);
+        Claims claims = jwtService.extractClaim(token);
+
+        // Assert
+        assertEquals(2, claims.get("ver", Integer.class));
+        assertEquals(ADMIN.getCode(), claims.get("rol", String.class));
+        assertEquals(ADMIN.getPermissionMask(), claims.get("prm", Integer.class));
+        assertNull(claims.get("role"));
+        assertEquals(userEntity.getEmail(), claims.getSubject());
+        assertTrue(jwtService.isTokenValid(token, userEntity));
+    }
+
+    @Test
+    void should_ValidateLegacyToken_When_IssuedWithoutClaimsVersion() {
+        // Arrange
+        String legacyToken = Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .issuedAt(Date.from(Instant.now()))
+                .expiration(Date.from(Instant.now().plusSeconds(3600)))
+                .subject(userEntity.getEmail())
+                .claim("role", userEntity.getAuthorities())
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY)), Jwts.SIG.HS256)
+                .compact();
+
+        // Act & Assert
+        assertTrue(jwtService.isTokenValid(legacyToken, userEntity));
+        assertEquals(userEntity.getEmail(), jwtService.extractUsername(legacyToken));
+        assertEquals(0, jwtService.extractTokenVersion(legacyToken));
+    }
+
+    @Test
+    void should_EmbedTokenVersion_When_TokenGenerated() {
+        // Arrange
+        userEntity.setTokenVersion(3);
+
+        // Act
+        String token = jwtService.generateJwtToken(userEntity);
+
+        // Assert
+        assertEquals(3, jwtService.extractTokenVersion(token));
+    }
+
+    @Test
+    void should_VerifyTokensSignedWithAnyRingKey_When_ActiveKeyRotated(@TempDir Path keyDir) throws Exception {
+        // Arrange
+        JwtConfig.KeyDefinition oldKey = writeEs256Key(keyDir, "key-1", true);
+        JwtConfig.KeyDefinition newKey = writeEs256Key(keyDir, "key-2", true);
+
+        JwtConfig beforeRotation = new JwtConfig();
+        beforeRotation.setKeys(List.of(oldKey));
+        beforeRotation.setActiveKeyId("key-1");
+        String tokenSignedWithOldKey = createJwtService(beforeRotation).generateJwtToken(userEntity);
+
+        JwtConfig afterRotation = new JwtConfig();
+        afterRotation.setKeys(List.of(oldKey, newKey));
+        afterRotation.setActiveKeyId("key-2");
+        JwtServiceImpl rotatedService = createJwtService(afterRotation);
+
+        // Act
+        String tokenSignedWithNewKey = rotatedService.generateJwtToken(userEntity);
+
+        // Assert
+        String header = new String(Base64.getUrlDecoder().decode(tokenSignedWithNewKey.split("\\.")[0]));
+        assertTrue(header.contains("\"kid\":\"key-2\""));
+        assertTrue(rotatedService.isTokenValid(tokenSignedWithOldKey, userEntity));
+        assertTrue(rotatedService.isTokenValid(tokenSignedWithNewKey, userEntity));
+        assertTrue(jwtService.isTokenValid(jwtService.generateJwtToken(userEntity), userEntity));
+    }
+
+    @Test
+    void should_SetSecureStrictHostOnlyCookie_When_RefreshTokenAdded() {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtService.setRefreshTokenExpiration(1209600);
+
+        // Act
+        jwtService.addRefreshTokenCookie(response, "refresh-token");
+
+        // Assert
+        String setCookie = response.getHeader(HttpHeaders.SET_COOKIE);
+        assertNotNull(setCookie);
+        assertTrue(setCookie.contains("Secure"));
+        assertTrue(setCookie.contains("SameSite=Strict"));
+        assertFalse(setCookie.contains("Domain="));
+        assertTrue(setCookie.contains("Path=/api/v1/auth"));
+    }
+
+    @Test
+    void should_UseConfiguredCookieScope_When_RefreshTokenAdded() {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtService.setCookieDomain("petwell.com");
+        jwtService.setCookieSecure(false);
+
+        // Act
+        jwtService.addRefreshTokenCookie(response, "refresh-token");
+
+        // Assert
+        String setCookie = response.getHeader(HttpHeaders.SET_COOKIE);
+        assertNotNull(setCookie);
+        assertTrue(setCookie.contains("Domain=petwell.com"));
+        assertFalse(setCookie.contains("Secure"));
+    }
+}
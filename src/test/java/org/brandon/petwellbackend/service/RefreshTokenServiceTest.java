@@ -0,0 +1,91 @@
+package org.brandon.petwellbackend.service;
+
+import org.brandon.petwellbackend.domain.RefreshedSession;
+import org.brandon.petwellbackend.entity.RefreshToken;
+import org.brandon.petwellbackend.entity.Role;
+import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.exception.ApplicationException;
+import org.brandon.petwellbackend.repository.RefreshTokenRepository;
+import org.brandon.petwellbackend.repository.UserEntityRepository;
+import org.brandon.petwellbackend.security.JwtConfig;
+import org.brandon.petwellbackend.service.impl.RefreshTokenServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.brandon.petwellbackend.enums.RoleType.CLIENT;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenServiceTest {
+    private static final String USER_ID = "user-1";
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserEntityRepository userEntityRepository;
+
+    @Mock
+    private JwtConfig jwtConfig;
+
+    @InjectMocks
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    private RefreshToken storedToken;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        storedToken = RefreshToken.builder()
+                .tokenHash("hash")
+                .userID(USER_ID)
+                .expiresAt(LocalDateTime.now().plusHours(3))
+                .build();
+        UserEntity userEntity = UserEntity.builder()
+                .userID(USER_ID)
+                .email("mary@petwell.com")
+                .role(Role.builder().roleType(CLIENT).build())
+                .isEnabled(true)
+                .isAccountNonLocked(true)
+                .build();
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(storedToken));
+        when(userEntityRepository.findByUserID(USER_ID)).thenReturn(Optional.of(userEntity));
+        when(jwtConfig.getRefreshTokenExpiration()).thenReturn(7 * 24 * 3600L);
+    }
+
+    @Test
+    void should_KeepOriginalExpiry_When_TokenRotated() {
+        // Arrange
+        when(refreshTokenRepository.revokeByTokenHash(anyString())).thenReturn(1);
+
+        // Act
+        RefreshedSession session = refreshTokenService.rotateRefreshToken("token");
+
+        // Assert
+        ArgumentCaptor<RefreshToken> issued = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(issued.capture());
+        assertEquals(storedToken.getExpiresAt(), issued.getValue().getExpiresAt());
+        assertNotNull(session.refreshToken());
+        verify(refreshTokenRepository, never()).revokeAllByUserID(anyString());
+    }
+
+    @Test
+    void should_RevokeAllSessions_When_ConcurrentRotationWonTheRace() {
+        // Arrange
+        when(refreshTokenRepository.revokeByTokenHash(anyString())).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(ApplicationException.class, () -> refreshTokenService.rotateRefreshToken("token"));
+
+        verify(refreshTokenRepository, times(1)).revokeAllByUserID(USER_ID);
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+}
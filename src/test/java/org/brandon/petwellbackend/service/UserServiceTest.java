@@ -1,24 +1,48 @@
 package org.brandon.petwellbackend.service;
 
+import org.brandon.petwellbackend.audit.AuditEventPublisher;
+import org.brandon.petwellbackend.cache.CacheInvalidationBus;
+import org.brandon.petwellbackend.cache.CacheStore;
 import org.brandon.petwellbackend.common.Mapper;
+import org.brandon.petwellbackend.domain.ResourceVersion;
+import org.brandon.petwellbackend.domain.SearchCursor;
+import org.brandon.petwellbackend.exception.ApplicationException;
 import org.brandon.petwellbackend.entity.Role;
 import org.brandon.petwellbackend.entity.UserEntity;
+import org.brandon.petwellbackend.enums.OutboxMessageType;
 import org.brandon.petwellbackend.exception.EntityNotFoundException;
+import org.brandon.petwellbackend.outbox.OutboxPublisher;
+import org.brandon.petwellbackend.payload.UserBatch;
 import org.brandon.petwellbackend.payload.UserDTO;
+import org.brandon.petwellbackend.payload.UserLifecycleMessage;
+import org.brandon.petwellbackend.payload.UserSearchPage;
 import org.brandon.petwellbackend.repository.UserEntityRepository;
+import org.brandon.petwellbackend.repository.UserEntityRepository.CollectionVersion;
+import org.brandon.petwellbackend.repository.UserEntityRepository.UserSearchResult;
+import org.brandon.petwellbackend.repository.UserStatsRepository;
+import org.brandon.petwellbackend.security.VerifiedTokenCache;
 import org.brandon.petwellbackend.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
+import static org.brandon.petwellbackend.enums.AuditEventType.*;
 import static org.brandon.petwellbackend.enums.RoleType.ADMIN;
+import static org.brandon.petwellbackend.enums.RoleType.MANAGER;
+import static org.brandon.petwellbackend.enums.UserField.FIRST_NAME;
+import static org.brandon.petwellbackend.enums.UserField.USER_ID;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 class UserServiceTest {
@@ -28,12 +52,42 @@ class UserServiceTest {
     @Mock
     private Mapper mapper;
 
-    @InjectMocks
+    @Mock
+    private CacheStore<String, UserSearchPage> userSearchCache;
+
+    @Mock
+    private AuditEventPublisher auditEventPublisher;
+
+    @Mock
+    private CacheStore<String, Integer> tokenVersionCache;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
+    @Mock
+    private UserStatsRepository userStatsRepository;
+
     private UserServiceImpl employeeService;
 
+    /**
+     * Built by hand: the two CacheStore mocks differ only in their type arguments, which constructor
+     * injection cannot tell apart.
+     */
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        employeeService = new UserServiceImpl(userEntityRepository, mapper, userSearchCache, tokenVersionCache,
+                refreshTokenService, verifiedTokenCache, auditEventPublisher, cacheInvalidationBus,
+                outboxPublisher, userStatsRepository);
     }
 
     @Test
@@ -41,25 +95,15 @@ class UserServiceTest {
         // Arrange
         String userId = UUID.randomUUID().toString();
 
-        UserEntity expectedUserEntity = UserEntity.builder()
+        UserDTO expectedUserDto = UserDTO.builder()
                 .userID(userId)
                 .firstname("John")
                 .lastname("Doe")
                 .email("john@petwell.com")
-                .password("password")
-                .role(Role.builder().roleType(ADMIN).build())
+                .role(ADMIN.getName())
                 .build();
 
-        UserDTO expectedUserDto = UserDTO.builder()
-                .userID(userId)
-                .firstname(expectedUserEntity.getFirstname())
-                .lastname(expectedUserEntity.getLastname())
-                .email(expectedUserEntity.getEmail())
-                .role(expectedUserEntity.getRole().getRoleType().name())
-                .build();
-
-        when(userEntityRepository.findByUserID(userId)).thenReturn(Optional.of(expectedUserEntity));
-        when(mapper.toUserDTO(expectedUserEntity)).thenReturn(expectedUserDto);
+        when(userEntityRepository.findUserDTOByUserID(userId)).thenReturn(Optional.of(expectedUserDto));
 
         // Act
         UserDTO employeeById = employeeService.getUserByUserID(userId);
@@ -70,42 +114,44 @@ class UserServiceTest {
         assertEquals(expectedUserDto.lastname(), employeeById.lastname());
         assertEquals(expectedUserDto.email(), employeeById.email());
 
-        verify(userEntityRepository, times(1)).findByUserID(userId);
+        verify(userEntityRepository, times(1)).findUserDTOByUserID(userId);
+        verify(userEntityRepository, never()).findByUserID(userId);
+        verifyNoInteractions(mapper);
     }
 
     @Test
     void should_GetAllEmployees_When_UsersExist() {
         // Arrange
-        UserEntity expectedUserEntity1 = UserEntity.builder()
-                .id(1L)
+        UserDTO expectedUserDto1 = UserDTO.builder()
+                .userID(UUID.randomUUID().toString())
                 .firstname("John")
                 .lastname("Doe")
                 .email("john@petwell.com")
-                .password("password")
-                .role(Role.builder().roleType(ADMIN).build())
+                .role(ADMIN.getName())
                 .build();
 
-        UserEntity expectedUserEntity2 = UserEntity.builder()
-                .id(2L)
+        UserDTO expectedUserDto2 = UserDTO.builder()
+                .userID(UUID.randomUUID().toString())
                 .firstname("Mary")
                 .lastname("Smith")
                 .email("mary@petwell.com")
-                .password("password")
-                .role(Role.builder().roleType(ADMIN).build())
+                .role(ADMIN.getName())
                 .build();
 
-        List<UserEntity> expectedUserEntityEntities = List.of(expectedUserEntity1, expectedUserEntity2);
+        List<UserDTO> expectedUserDtos = List.of(expectedUserDto1, expectedUserDto2);
 
-        when(userEntityRepository.findAll()).thenReturn(expectedUserEntityEntities);
+        when(userEntityRepository.findAllUserDTOs()).thenReturn(expectedUserDtos);
 
         // Act
         List<UserDTO> userDTOList = employeeService.getAllUsers();
 
         // Assert
         assertFalse(userDTOList.isEmpty());
-        assertEquals(expectedUserEntityEntities.size(), userDTOList.size());
+        assertEquals(expectedUserDtos, userDTOList);
 
-        verify(userEntityRepository, times(1)).findAll();
+        verify(userEntityRepository, times(1)).findAllUserDTOs();
+        verify(userEntityRepository, never()).findAll();
+        verifyNoInteractions(mapper);
     }
 
     @Test
@@ -157,6 +203,70 @@ class UserServiceTest {
         verify(userEntityRepository, times(1)).findByUserID(idToUpdate);
         verify(userEntityRepository, times(1)).save(any(UserEntity.class));
         verify(mapper, times(1)).toUserDTO(expectedUpdatedUserEntity);
+        verify(auditEventPublisher, times(1)).publish(USER_UPDATED, idToUpdate, null);
+        verify(auditEventPublisher, never()).publish(eq(ROLE_CHANGED), anyString(), anyString());
+    }
+
+    @Test
+    void should_AuditRoleChange_When_UpdatedRoleDiffers() {
+        // Arrange
+        String idToUpdate = UUID.randomUUID().toString();
+
+        UserEntity existingUserEntity = UserEntity.builder()
+                .userID(idToUpdate)
+                .email("john@petwell.com")
+                .role(Role.builder().roleType(ADMIN).build())
+                .build();
+
+        UserEntity updatedUserEntity = UserEntity.builder()
+                .userID(idToUpdate)
+                .email("john@petwell.com")
+                .role(Role.builder().roleType(MANAGER).build())
+                .build();
+
+        when(userEntityRepository.findByUserID(idToUpdate)).thenReturn(Optional.of(existingUserEntity));
+        when(userEntityRepository.save(any(UserEntity.class))).thenReturn(updatedUserEntity);
+
+        // Act
+        employeeService.updateUser(idToUpdate, UserDTO.builder().role("manager").build());
+
+        // Assert
+        verify(auditEventPublisher, times(1)).publish(USER_UPDATED, idToUpdate, null);
+        verify(auditEventPublisher, times(1)).publish(ROLE_CHANGED, idToUpdate, "ADMIN -> MANAGER");
+    }
+
+    @Test
+    void should_KeepLockAndTokenVersion_When_UserUpdated() {
+        // Arrange
+        String idToUpdate = UUID.randomUUID().toString();
+        LocalDateTime lockedUntil = LocalDateTime.now().plusMinutes(15);
+
+        UserEntity existingUserEntity = UserEntity.builder()
+                .id(7L)
+                .userID(idToUpdate)
+                .firstname("John")
+                .lastname("Doe")
+                .email("john@petwell.com")
+                .password("password")
+                .role(Role.builder().roleType(ADMIN).build())
+                .isAccountNonLocked(false)
+                .lockedUntil(lockedUntil)
+                .tokenVersion(4)
+                .build();
+
+        when(userEntityRepository.findByUserID(idToUpdate)).thenReturn(Optional.of(existingUserEntity));
+        when(userEntityRepository.save(any(UserEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        employeeService.updateUser(idToUpdate, UserDTO.builder().firstname("Brandon").build());
+
+        // Assert
+        verify(userEntityRepository, times(1)).save(argThat(saved -> saved.getId() == 7L
+                && saved.getFirstname().equals("Brandon")
+                && saved.getLastname().equals("Doe")
+                && !saved.isAccountNonLocked()
+                && lockedUntil.equals(saved.getLockedUntil())
+                && saved.getTokenVersion() == 4));
     }
 
     @Test
@@ -174,14 +284,69 @@ class UserServiceTest {
                 .build();
 
         when(userEntityRepository.findByUserID(idToDelete)).thenReturn(Optional.of(existingUserEntity));
-        doNothing().when(userEntityRepository).deleteByUserID(idToDelete);
+        when(userEntityRepository.softDeleteByUserID(idToDelete)).thenReturn(1);
 
         // Act
         employeeService.deleteUser(idToDelete);
 
         // Assert
         verify(userEntityRepository, times(1)).findByUserID(idToDelete);
-        verify(userEntityRepository, times(1)).deleteByUserID(idToDelete);
+        verify(userEntityRepository, times(1)).softDeleteByUserID(idToDelete);
+        verify(userEntityRepository, never()).delete(any(UserEntity.class));
+        verify(auditEventPublisher, times(1)).publish(USER_DELETED, idToDelete, null);
+        verify(tokenVersionCache, times(1)).evict("john@petwell.com");
+        verify(verifiedTokenCache, times(1)).evictUser("john@petwell.com");
+        verify(cacheInvalidationBus, times(1)).publishUserChanged("john@petwell.com");
+        verify(outboxPublisher, times(1)).publish(eq(OutboxMessageType.USER_DELETED), eq(idToDelete),
+                any(UserLifecycleMessage.class));
+    }
+
+    @Test
+    void should_MapRoleName_When_ProjectingRoleType() {
+        // Act
+        UserDTO userDTO = new UserDTO("id", "John", "Doe", "john@petwell.com", ADMIN, true, true, true, true);
+
+        // Assert
+        assertEquals(ADMIN.getName(), userDTO.role());
+    }
+
+    @Test
+    void should_ReturnVersionWithoutLoadingUser_When_ValidIDGiven() {
+        // Arrange
+        String userId = UUID.randomUUID().toString();
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 4, 1, 12, 30);
+
+        when(userEntityRepository.findUpdatedAtByUserID(userId)).thenReturn(Optional.of(updatedAt));
+
+        // Act
+        Optional<ResourceVersion> version = employeeService.getUserVersion(userId);
+
+        // Assert
+        assertEquals(Optional.of(ResourceVersion.of(updatedAt)), version);
+
+        verify(userEntityRepository, never()).findByUserID(userId);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void should_ChangeCollectionVersion_When_UserCountChanges() {
+        // Arrange
+        LocalDateTime lastUpdatedAt = LocalDateTime.of(2024, 4, 1, 12, 30);
+        CollectionVersion collectionVersion = mock(CollectionVersion.class);
+
+        when(collectionVersion.getLastUpdatedAt()).thenReturn(lastUpdatedAt);
+        when(collectionVersion.getCount()).thenReturn(3L, 2L);
+        when(userEntityRepository.findCollectionVersion()).thenReturn(collectionVersion);
+
+        // Act
+        ResourceVersion before = employeeService.getAllUsersVersion().orElseThrow();
+        ResourceVersion after = employeeService.getAllUsersVersion().orElseThrow();
+
+        // Assert
+        assertNotEquals(before.eTag(), after.eTag());
+        assertEquals(before.lastModified(), after.lastModified());
+
+        verify(userEntityRepository, never()).findAll();
     }
 
     @Test
@@ -189,7 +354,7 @@ class UserServiceTest {
         // Arrange
         String invalidId = UUID.randomUUID().toString();
 
-        when(userEntityRepository.findByUserID(invalidId)).thenReturn(Optional.empty());
+        when(userEntityRepository.findUserDTOByUserID(invalidId)).thenReturn(Optional.empty());
 
         // Act & Assert
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
@@ -197,6 +362,198 @@ class UserServiceTest {
 
         assertEquals(String.format("Could not find user: %s", invalidId), exception.getMessage());
 
-        verify(userEntityRepository, times(1)).findByUserID(invalidId);
+        verify(userEntityRepository, times(1)).findUserDTOByUserID(invalidId);
+    }
+
+    @Test
+    void should_ReturnRankedPageWithCursor_When_MoreResultsExist() {
+        // Arrange
+        UserSearchResult first = searchResult("id-1", "Doe", 1.0f);
+        UserSearchResult second = searchResult("id-2", "Dole", 0.4f);
+        UserSearchResult third = searchResult("id-3", "Dow", 0.3f);
+
+        when(userEntityRepository.searchUsers("do", "do%", SearchCursor.FIRST.score(), "", 3))
+                .thenReturn(List.of(first, second, third));
+
+        // Act
+        UserSearchPage page = employeeService.searchUsers("  Do ", null, 2);
+
+        // Assert
+        assertEquals(List.of("Doe", "Dole"), page.users().stream().map(UserDTO::lastname).toList());
+        assertEquals(new SearchCursor(0.4f, "id-2"), SearchCursor.decode(page.nextCursor()));
+        assertEquals(ADMIN.getName(), page.users().getFirst().role());
+
+        verify(userSearchCache, times(1)).put("2:do", page);
+    }
+
+    @Test
+    void should_ServeFirstPageFromCache_When_QueryRepeated() {
+        // Arrange
+        UserSearchPage cachedPage = new UserSearchPage(List.of(), null);
+
+        when(userSearchCache.get("20:doe")).thenReturn(cachedPage);
+
+        // Act
+        UserSearchPage page = employeeService.searchUsers("Doe", null, 20);
+
+        // Assert
+        assertSame(cachedPage, page);
+
+        verify(userEntityRepository, never()).searchUsers(anyString(), anyString(), anyFloat(), anyString(), anyInt());
+    }
+
+    @Test
+    void should_EscapeLikeWildcards_When_QueryContainsThem() {
+        // Act
+        employeeService.searchUsers("50%_off", new SearchCursor(0.5f, "id-9").encode(), 20);
+
+        // Assert
+        verify(userEntityRepository, times(1)).searchUsers("50%_off", "50\\%\\_off%", 0.5f, "id-9", 21);
+        verifyNoInteractions(userSearchCache);
+    }
+
+    @Test
+    void should_ThrowApplicationException_When_SearchQueryBlank() {
+        // Act & Assert
+        ApplicationException exception = assertThrows(ApplicationException.class,
+                () -> employeeService.searchUsers("   ", null, 20));
+
+        assertEquals("Search query must not be blank", exception.getMessage());
+
+        verifyNoInteractions(userEntityRepository);
+    }
+
+    @Test
+    void should_SelectOnlyRequestedFields_When_FieldsGiven() {
+        // Arrange
+        String id = UUID.randomUUID().toString();
+        Map<String, Object> fields = Map.of("user_id", id, "first_name", "John");
+        when(userEntityRepository.findUserFieldsByUserID(id, EnumSet.of(USER_ID, FIRST_NAME)))
+                .thenReturn(Optional.of(fields));
+
+        // Act
+        Map<String, Object> user = employeeService.getUserByUserID(id, "first_name, user_id,");
+
+        // Assert
+        assertEquals(fields, user);
+        verify(userEntityRepository, never()).findUserDTOByUserID(anyString());
+    }
+
+    @Test
+    void should_ThrowApplicationException_When_UnknownFieldRequested() {
+        // Act & Assert
+        ApplicationException exception = assertThrows(ApplicationException.class,
+                () -> employeeService.getAllUsers("user_id,password"));
+
+        assertEquals("Unknown field: password", exception.getMessage());
+
+        verifyNoInteractions(userEntityRepository);
+    }
+
+    @Test
+    void should_PreserveInputOrderAndReportMissingIDs_When_BatchRequested() {
+        // Arrange
+        UserDTO john = UserDTO.builder().userID("id-1").firstname("John").build();
+        UserDTO mary = UserDTO.builder().userID("id-3").firstname("Mary").build();
+        when(userEntityRepository.findUserDTOsByUserIDIn(List.of("id-3", "id-2", "id-1")))
+                .thenReturn(List.of(john, mary));
+
+        // Act
+        UserBatch batch = employeeService.getUsersByUserIDs(List.of("id-3", "id-2", "id-1", "id-3"));
+
+        // Assert
+        assertEquals(List.of(mary, john), batch.users());
+        assertEquals(List.of("id-2"), batch.missingIDs());
+    }
+
+    @Test
+    void should_QueryInChunks_When_BatchExceedsChunkSize() {
+        // Arrange
+        List<String> userIDs = IntStream.range(0, 250).mapToObj(i -> "id-" + i).toList();
+        when(userEntityRepository.findUserDTOsByUserIDIn(anyCollection())).thenReturn(List.of());
+
+        // Act
+        UserBatch batch = employeeService.getUsersByUserIDs(userIDs);
+
+        // Assert
+        verify(userEntityRepository, times(1)).findUserDTOsByUserIDIn(userIDs.subList(0, 100));
+        verify(userEntityRepository, times(1)).findUserDTOsByUserIDIn(userIDs.subList(100, 200));
+        verify(userEntityRepository, times(1)).findUserDTOsByUserIDIn(userIDs.subList(200, 250));
+        assertEquals(userIDs, batch.missingIDs());
+    }
+
+    @Test
+    void should_KeepLock_When_PersistedLockNotExpired() {
+        // Arrange
+        when(userEntityRepository.releaseExpiredAccountLock(eq("john@petwell.com"), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        // Act
+        employeeService.releaseExpiredAccountLock("john@petwell.com");
+
+        // Assert
+        verify(userEntityRepository, times(1)).releaseExpiredAccountLock(eq("john@petwell.com"), any(LocalDateTime.class));
+        verifyNoInteractions(cacheInvalidationBus, verifiedTokenCache);
+    }
+
+    @Test
+    void should_CapStatsRange_When_TooManyDaysRequested() {
+        // Act
+        employeeService.getUserStats(10_000);
+        employeeService.getUserStats(0);
+
+        // Assert
+        verify(userStatsRepository, times(1)).findStats(LocalDate.now().minusDays(364));
+        verify(userStatsRepository, times(1)).findStats(LocalDate.now());
+        verifyNoInteractions(userEntityRepository);
+    }
+
+    private static UserSearchResult searchResult(String userID, String lastname, float score) {
+        UserSearchResult result = mock(UserSearchResult.class);
+        when(result.getUserID()).thenReturn(userID);
+        when(result.getLastname()).thenReturn(lastname);
+        when(result.getRoleType()).thenReturn(ADMIN.name());
+        when(result.getScore()).thenReturn(score);
+        return result;
+    }
+
+    @Test
+    void should_LoadTokenVersion_When_Requested() {
+        // Arrange
+        String email = "john@petwell.com";
+
+        when(userEntityRepository.findTokenVersionByEmail(email)).thenReturn(Optional.of(4));
+
+        // Act
+        int tokenVersion = employeeService.getTokenVersion(email);
+
+        // Assert
+        assertEquals(4, tokenVersion);
+
+        verify(userEntityRepository, times(1)).findTokenVersionByEmail(email);
+    }
+
+    @Test
+    void should_RevokeAllSessions_When_ValidIDGiven() {
+        // Arrange
+        String userId = UUID.randomUUID().toString();
+
+        UserEntity existingUserEntity = UserEntity.builder()
+                .userID(userId)
+                .email("john@petwell.com")
+                .role(Role.builder().roleType(ADMIN).build())
+                .build();
+
+        when(userEntityRepository.findByUserID(userId)).thenReturn(Optional.of(existingUserEntity));
+
+        // Act
+        employeeService.revokeAllSessions(userId);
+
+        // Assert
+        verify(userEntityRepository, times(1)).incrementTokenVersion(userId);
+        verify(refreshTokenService, times(1)).revokeAllRefreshTokens(userId);
+        verify(tokenVersionCache, times(1)).evict("john@petwell.com");
+        verify(cacheInvalidationBus, times(1)).publishUserChanged("john@petwell.com");
+        verify(auditEventPublisher, times(1)).publish(SESSIONS_REVOKED, userId, null);
     }
-}
\ No newline at end of file
+}